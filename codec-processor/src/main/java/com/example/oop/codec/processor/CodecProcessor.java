@@ -0,0 +1,396 @@
+package com.example.oop.codec.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Generates a Codec implementation for every class annotated with
+// com.example.oop.codec.GenerateCodec. The generated code only calls the
+// class's public constructor, getters and setters, so decoding needs no
+// reflection and encoding no Serializable.
+//
+// The annotation is looked up by name, so this processor has no dependency on
+// the project it runs in.
+@SupportedAnnotationTypes(CodecProcessor.ANNOTATION)
+public final class CodecProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "com.example.oop.codec.GenerateCodec";
+    private static final String CODEC = "com.example.oop.codec.Codec";
+    private static final String WIRE = "com.example.oop.codec.Wire";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+        List<TypeElement> annotated = new ArrayList<>(ElementFilter.typesIn(round.getElementsAnnotatedWith(annotation)));
+        for (TypeElement type : annotated) {
+            try {
+                write(type, model(type), subtypesOf(type, annotated, annotation));
+            } catch (InvalidModelException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Cannot write codec: " + e.getMessage(), type);
+            }
+        }
+        return true;
+    }
+
+    // Encoded properties in wire order: constructor parameters, then setter-backed properties by name
+    private List<Property> model(TypeElement type) throws InvalidModelException {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new InvalidModelException("@GenerateCodec needs a concrete class", type);
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL || !type.getTypeParameters().isEmpty()) {
+            throw new InvalidModelException("@GenerateCodec needs a top-level, non-generic class", type);
+        }
+
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty() && kindOf(method.getReturnType()) != null) {
+                String property = propertyName(name, method.getReturnType());
+                if (property != null) {
+                    getters.put(property, method);
+                }
+            } else if (method.getParameters().size() == 1 && name.startsWith("set") && name.length() > 3
+                    && method.getReturnType().getKind() == TypeKind.VOID) {
+                setters.put(decapitalize(name.substring(3)), method);
+            }
+        }
+
+        ExecutableElement constructor = null;
+        for (ExecutableElement candidate : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (candidate.getModifiers().contains(Modifier.PUBLIC) && matchesGetters(candidate, getters)
+                    && (constructor == null || candidate.getParameters().size() > constructor.getParameters().size())) {
+                constructor = candidate;
+            }
+        }
+        if (constructor == null) {
+            throw new InvalidModelException("@GenerateCodec needs a public constructor whose parameters all "
+                    + "match a getter by name and type", type);
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            String name = parameter.getSimpleName().toString();
+            properties.add(new Property(name, kindOf(parameter.asType()), getters.get(name).getSimpleName().toString(),
+                    null));
+        }
+        List<String> setterBacked = new ArrayList<>();
+        for (Map.Entry<String, ExecutableElement> setter : setters.entrySet()) {
+            ExecutableElement getter = getters.get(setter.getKey());
+            boolean inConstructor = properties.stream().anyMatch(p -> p.name().equals(setter.getKey()));
+            if (getter != null && !inConstructor && processingEnv.getTypeUtils().isSameType(
+                    getter.getReturnType(), setter.getValue().getParameters().get(0).asType())) {
+                setterBacked.add(setter.getKey());
+            }
+        }
+        setterBacked.sort(Comparator.naturalOrder());
+        for (String name : setterBacked) {
+            properties.add(new Property(name, kindOf(getters.get(name).getReturnType()),
+                    getters.get(name).getSimpleName().toString(), setters.get(name).getSimpleName().toString()));
+        }
+        return properties;
+    }
+
+    private boolean matchesGetters(ExecutableElement constructor, Map<String, ExecutableElement> getters) {
+        for (VariableElement parameter : constructor.getParameters()) {
+            ExecutableElement getter = getters.get(parameter.getSimpleName().toString());
+            if (getter == null || !processingEnv.getTypeUtils().isSameType(getter.getReturnType(), parameter.asType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Other annotated classes that extend the type, deepest first so instanceof picks the closest match.
+    // Each needs its own positive tag; 0 on the wire is the type itself.
+    private List<Subtype> subtypesOf(TypeElement type, List<TypeElement> annotated, TypeElement annotation)
+            throws InvalidModelException {
+        List<Subtype> result = new ArrayList<>();
+        Map<Integer, TypeElement> byTag = new LinkedHashMap<>();
+        for (TypeElement candidate : annotated) {
+            if (candidate.equals(type)
+                    || !processingEnv.getTypeUtils().isSubtype(candidate.asType(), type.asType())) {
+                continue;
+            }
+            int tag = tagOf(candidate, annotation);
+            if (tag <= 0) {
+                throw new InvalidModelException("@GenerateCodec on a subclass of " + type.getSimpleName()
+                        + " needs a positive tag, which identifies it in " + type.getSimpleName() + "Codec", candidate);
+            }
+            TypeElement previous = byTag.putIfAbsent(tag, candidate);
+            if (previous != null) {
+                throw new InvalidModelException("@GenerateCodec tag " + tag + " is already used by "
+                        + previous.getQualifiedName() + " in " + type.getSimpleName() + "Codec", candidate);
+            }
+            result.add(new Subtype(candidate, tag, depth(candidate)));
+        }
+        result.sort(Comparator.comparingInt(Subtype::depth).reversed().thenComparingInt(Subtype::tag));
+        return result;
+    }
+
+    private int tagOf(TypeElement type, TypeElement annotation) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                        : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+                    if (value.getKey().getSimpleName().contentEquals("tag")) {
+                        return (Integer) value.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    private int depth(TypeElement type) {
+        int depth = 0;
+        for (TypeMirror superclass = type.getSuperclass(); superclass.getKind() == TypeKind.DECLARED;
+                superclass = ((TypeElement) ((DeclaredType) superclass).asElement()).getSuperclass()) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private void write(TypeElement type, List<Property> properties, List<Subtype> subtypes) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String codecName = type.getSimpleName() + "Codec";
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import ").append(CODEC).append(";\n");
+        source.append("import ").append(WIRE).append(";\n");
+        source.append("import java.nio.ByteBuffer;\n");
+        source.append("import javax.annotation.processing.Generated;\n\n");
+        source.append("// Generated from ").append(type.getSimpleName()).append(" by ")
+                .append(CodecProcessor.class.getSimpleName()).append("; do not edit.\n");
+        if (!subtypes.isEmpty()) {
+            source.append("// Starts with a varint subtype tag: 0 = ").append(type.getSimpleName());
+            for (Subtype subtype : subtypes.stream().sorted(Comparator.comparingInt(Subtype::tag)).toList()) {
+                source.append(", ").append(subtype.tag()).append(" = ").append(subtype.type().getSimpleName());
+            }
+            source.append("\n");
+        }
+        List<String> fields = new ArrayList<>();
+        for (Property property : properties) {
+            fields.add(property.name() + " (" + property.kind().wire + ")");
+        }
+        source.append("// Fields: ").append(fields.isEmpty() ? "none" : String.join(", ", fields)).append("\n");
+        source.append("@Generated(\"").append(CodecProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(codecName).append(" implements Codec<").append(typeName)
+                .append("> {\n");
+        source.append("    public static final ").append(codecName).append(" INSTANCE = new ").append(codecName)
+                .append("();\n\n");
+        source.append("    private ").append(codecName).append("() {\n    }\n\n");
+
+        // encode
+        source.append("    @Override\n");
+        source.append("    public void encode(").append(typeName).append(" value, ByteBuffer out) {\n");
+        for (Subtype subtype : subtypes) {
+            source.append("        if (value instanceof ").append(subtype.type().getQualifiedName()).append(" subtype) {\n");
+            source.append("            Wire.putVarint(out, ").append(subtype.tag()).append(");\n");
+            source.append("            ").append(codecOf(subtype.type())).append(".INSTANCE.encode(subtype, out);\n");
+            source.append("            return;\n");
+            source.append("        }\n");
+        }
+        if (!subtypes.isEmpty()) {
+            source.append("        Wire.putVarint(out, 0);\n");
+        }
+        for (Property property : properties) {
+            source.append("        ").append(property.kind().put.formatted("value." + property.getter() + "()"))
+                    .append(";\n");
+        }
+        source.append("    }\n\n");
+
+        // decode
+        source.append("    @Override\n");
+        source.append("    public ").append(typeName).append(" decode(ByteBuffer in) {\n");
+        if (!subtypes.isEmpty()) {
+            source.append("        int tag = Wire.getVarint(in);\n");
+            for (Subtype subtype : subtypes) {
+                source.append("        if (tag == ").append(subtype.tag()).append(") {\n");
+                source.append("            return ").append(codecOf(subtype.type())).append(".INSTANCE.decode(in);\n");
+                source.append("        }\n");
+            }
+            source.append("        if (tag != 0) {\n");
+            source.append("            throw new IllegalArgumentException(\"Unknown ").append(codecName)
+                    .append(" subtype tag \" + tag);\n");
+            source.append("        }\n");
+        }
+        List<String> arguments = new ArrayList<>();
+        for (Property property : properties) {
+            source.append("        ").append(property.kind().javaType).append(' ').append(local(property))
+                    .append(" = ").append(property.kind().get).append(";\n");
+            if (property.setter() == null) {
+                arguments.add(local(property));
+            }
+        }
+        source.append("        ").append(typeName).append(" decoded = new ").append(typeName).append('(')
+                .append(String.join(", ", arguments)).append(");\n");
+        for (Property property : properties) {
+            if (property.setter() != null) {
+                // Only call setters for values the constructor did not already produce
+                source.append("        if (").append(property.kind().differs.formatted(local(property),
+                        "decoded." + property.getter() + "()")).append(") {\n");
+                source.append("            decoded.").append(property.setter()).append('(').append(local(property))
+                        .append(");\n");
+                source.append("        }\n");
+            }
+        }
+        source.append("        return decoded;\n");
+        source.append("    }\n\n");
+
+        // encodedSize
+        source.append("    @Override\n");
+        source.append("    public int encodedSize(").append(typeName).append(" value) {\n");
+        for (Subtype subtype : subtypes) {
+            source.append("        if (value instanceof ").append(subtype.type().getQualifiedName()).append(" subtype) {\n");
+            source.append("            return Wire.varintSize(").append(subtype.tag()).append(") + ")
+                    .append(codecOf(subtype.type())).append(".INSTANCE.encodedSize(subtype);\n");
+            source.append("        }\n");
+        }
+        List<String> sizes = new ArrayList<>();
+        if (!subtypes.isEmpty()) {
+            sizes.add("1");
+        }
+        for (Property property : properties) {
+            sizes.add(property.kind().size.formatted("value." + property.getter() + "()"));
+        }
+        source.append("        return ").append(sizes.isEmpty() ? "0" : String.join("\n                + ", sizes))
+                .append(";\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        String qualifiedCodec = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedCodec, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    // Decode locals are named after their property unless that clashes with the generated code's own names
+    private static String local(Property property) {
+        return Set.of("in", "tag", "decoded").contains(property.name()) ? property.name() + "Field" : property.name();
+    }
+
+    private static String codecOf(TypeElement type) {
+        return type.getQualifiedName() + "Codec";
+    }
+
+    private static String propertyName(String methodName, TypeMirror returnType) {
+        if (methodName.startsWith("get") && methodName.length() > 3) {
+            return decapitalize(methodName.substring(3));
+        }
+        if (methodName.startsWith("is") && methodName.length() > 2 && returnType.getKind() == TypeKind.BOOLEAN) {
+            return decapitalize(methodName.substring(2));
+        }
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Kind kindOf(TypeMirror type) {
+        return switch (type.getKind()) {
+            case INT -> Kind.INT;
+            case LONG -> Kind.LONG;
+            case SHORT -> Kind.SHORT;
+            case BYTE -> Kind.BYTE;
+            case BOOLEAN -> Kind.BOOLEAN;
+            case CHAR -> Kind.CHAR;
+            case FLOAT -> Kind.FLOAT;
+            case DOUBLE -> Kind.DOUBLE;
+            case DECLARED -> type.toString().equals("java.lang.String") ? Kind.STRING : null;
+            default -> null;
+        };
+    }
+
+    // How each supported property type is written, read, sized and compared;
+    // %s is the value expression (the two values, for differs)
+    private enum Kind {
+        INT("int", "signed varint", "Wire.putSignedVarint(out, %s)", "Wire.getSignedVarint(in)",
+                "Wire.signedVarintSize(%s)", "%s != %s"),
+        LONG("long", "signed varint", "Wire.putSignedVarlong(out, %s)", "Wire.getSignedVarlong(in)",
+                "Wire.signedVarlongSize(%s)", "%s != %s"),
+        SHORT("short", "signed varint", "Wire.putSignedVarint(out, %s)", "(short) Wire.getSignedVarint(in)",
+                "Wire.signedVarintSize(%s)", "%s != %s"),
+        BYTE("byte", "1 byte", "out.put(%s)", "in.get()", "1", "%s != %s"),
+        BOOLEAN("boolean", "1 byte", "out.put((byte) (%s ? 1 : 0))", "in.get() != 0", "1", "%s != %s"),
+        CHAR("char", "1 byte", "Wire.putChar8(out, %s)", "Wire.getChar8(in)", "1", "%s != %s"),
+        FLOAT("float", "4 bytes", "Wire.putFloat(out, %s)", "Wire.getFloat(in)", "4",
+                "Float.compare(%s, %s) != 0"),
+        DOUBLE("double", "8 bytes", "Wire.putDouble(out, %s)", "Wire.getDouble(in)", "8",
+                "Double.compare(%s, %s) != 0"),
+        STRING("String", "length-prefixed UTF-8", "Wire.putString(out, %s)", "Wire.getString(in)",
+                "Wire.stringSize(%s)", "!java.util.Objects.equals(%s, %s)");
+
+        final String javaType;
+        final String wire;
+        final String put;
+        final String get;
+        final String size;
+        final String differs;
+
+        Kind(String javaType, String wire, String put, String get, String size, String differs) {
+            this.javaType = javaType;
+            this.wire = wire;
+            this.put = put;
+            this.get = get;
+            this.size = size;
+            this.differs = differs;
+        }
+    }
+
+    private record Property(String name, Kind kind, String getter, String setter) {
+    }
+
+    private record Subtype(TypeElement type, int tag, int depth) {
+    }
+
+    private static final class InvalidModelException extends Exception {
+        final Element element;
+
+        InvalidModelException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
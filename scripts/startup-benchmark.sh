@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Startup benchmark for Main: time to first output line and total run time,
+# with and without the AOT cache. Needs a JDK 24+ `java` on the PATH (or
+# JAVA_HOME) and the jar and cache built by: ./gradlew jar aotCache
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+set -euo pipefail
+
+runs=${1:-20}
+cd "$(dirname "$0")/.."
+java=${JAVA_HOME:+$JAVA_HOME/bin/}java
+jar=build/libs/OOPConceptsInJava-1.0-SNAPSHOT.jar
+cache=build/aot/app.aot
+
+for file in "$jar" "$cache"; do
+    if [[ ! -f $file ]]; then
+        echo "Missing $file; run ./gradlew jar aotCache first" >&2
+        exit 1
+    fi
+done
+
+now_ns() {
+    date +%s%N
+}
+
+# Prints "<first output ms> <total ms>" for one run
+measure() {
+    local start first end
+    start=$(now_ns)
+    first=$("$java" "$@" -cp "$jar" com.example.oop.Main | {
+        read -r _
+        now_ns
+        cat > /dev/null
+    })
+    end=$(now_ns)
+    echo "$(( (first - start) / 1000000 )) $(( (end - start) / 1000000 ))"
+}
+
+# Prints "median mean" of the numbers on stdin
+stats() {
+    sort -n | awk '{ v[NR] = $1; sum += $1 } END { printf "median %4d ms  mean %6.1f ms", v[int((NR + 1) / 2)], sum / NR }'
+}
+
+report() {
+    local label=$1
+    shift
+    local results
+    measure "$@" > /dev/null # warm the file system cache
+    results=$(for ((i = 0; i < runs; i++)); do measure "$@"; done)
+    printf '%-12s first output: %s | total: %s\n' "$label" \
+        "$(cut -d' ' -f1 <<< "$results" | stats)" "$(cut -d' ' -f2 <<< "$results" | stats)"
+}
+
+# How many classes a run loads, and how many come from the cache
+classes() {
+    "$java" "$@" -Xlog:class+load -cp "$jar" com.example.oop.Main \
+        | awk '/source:/ { total++ } /source: (shared objects file|AOT cache)/ { cached++ } END { printf "%d loaded, %d from cache", total, cached }'
+}
+
+# Class-init audit: the app classes whose static initializer runs during Main.
+# Classes logged with "(no method)" have no <clinit> and cost nothing here.
+initializers() {
+    "$java" -Xlog:class+init=info -cp "$jar" com.example.oop.Main \
+        | sed -n "s/.*Initializing '\(com\/example\/[^']*\)' .*/\1/p" | tr / . | paste -sd ' ' -
+}
+
+echo "$runs runs each, $("$java" -version 2>&1 | head -n 1)"
+report "default" -Xshare:auto
+report "AOT cache" -XX:AOTCache="$cache"
+echo "Classes, default:   $(classes -Xshare:auto)"
+echo "Classes, AOT cache: $(classes -XX:AOTCache="$cache")"
+echo "Static initializers run: $(initializers)"
@@ -0,0 +1,176 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.encapsulation.Student;
+import com.example.oop.encapsulation.StudentCodec;
+import com.example.oop.inheritance.Car;
+import com.example.oop.inheritance.Vehicle;
+import com.example.oop.inheritance.VehicleCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Generated codecs against Java serialization, for a batch of students and of
+// vehicles (a third plain vehicles, the rest cars). The model classes are not
+// Serializable, so the ObjectOutputStream side ships equivalent records, as a
+// caller using Java serialization would have to.
+// Each operation is one record; the bytesPerRecord aux column is the encoded
+// size of the batch divided by its length.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+    private static final int BATCH = 1024;
+    private static final char[] GRADES = {'A', 'B', 'C', 'D', 'F'};
+
+    record StudentData(int studentId, String firstName, char grade) implements Serializable {
+    }
+
+    record VehicleData(String brand, int numberOfDoors, boolean car) implements Serializable {
+    }
+
+    private final Student[] students = new Student[BATCH];
+    private final StudentData[] studentData = new StudentData[BATCH];
+    private final Vehicle[] vehicles = new Vehicle[BATCH];
+    private final VehicleData[] vehicleData = new VehicleData[BATCH];
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * BATCH);
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * BATCH);
+    private ByteBuffer encodedStudents;
+    private ByteBuffer encodedVehicles;
+    private byte[] serializedStudents;
+    private byte[] serializedVehicles;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public double bytesPerRecord;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] brands = {"Toyota", "Honda", "Škoda", "Vespa", "Volvo"};
+        for (int i = 0; i < BATCH; i++) {
+            students[i] = new Student(i * 37, "Student" + (i % 100));
+            students[i].setGrade(GRADES[i % GRADES.length]);
+            studentData[i] = new StudentData(students[i].getStudentId(), students[i].getFirstName(), students[i].getGrade());
+            boolean car = i % 3 != 0;
+            vehicles[i] = car ? new Car(brands[i % brands.length], 2 + i % 4) : new Vehicle(brands[i % brands.length]);
+            vehicleData[i] = new VehicleData(brands[i % brands.length], car ? 2 + i % 4 : 0, car);
+        }
+        encodeStudents();
+        encodedStudents = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.position()));
+        encodeVehicles();
+        encodedVehicles = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.position()));
+        serializedStudents = serialize(studentData);
+        serializedVehicles = serialize(vehicleData);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int encodeStudents(Size size) {
+        int written = encodeStudents();
+        size.bytesPerRecord = (double) written / BATCH;
+        return written;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int serializeStudents(Size size) throws IOException {
+        int written = serialize(studentData).length;
+        size.bytesPerRecord = (double) written / BATCH;
+        return written;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void decodeStudents(Blackhole blackhole) {
+        ByteBuffer in = encodedStudents.duplicate();
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(StudentCodec.INSTANCE.decode(in));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void deserializeStudents(Blackhole blackhole) throws IOException, ClassNotFoundException {
+        deserialize(serializedStudents, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int encodeVehicles(Size size) {
+        int written = encodeVehicles();
+        size.bytesPerRecord = (double) written / BATCH;
+        return written;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int serializeVehicles(Size size) throws IOException {
+        int written = serialize(vehicleData).length;
+        size.bytesPerRecord = (double) written / BATCH;
+        return written;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void decodeVehicles(Blackhole blackhole) {
+        ByteBuffer in = encodedVehicles.duplicate();
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(VehicleCodec.INSTANCE.decode(in));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void deserializeVehicles(Blackhole blackhole) throws IOException, ClassNotFoundException {
+        deserialize(serializedVehicles, blackhole);
+    }
+
+    private int encodeStudents() {
+        buffer.clear();
+        for (Student student : students) {
+            StudentCodec.INSTANCE.encode(student, buffer);
+        }
+        return buffer.position();
+    }
+
+    private int encodeVehicles() {
+        buffer.clear();
+        for (Vehicle vehicle : vehicles) {
+            VehicleCodec.INSTANCE.encode(vehicle, buffer);
+        }
+        return buffer.position();
+    }
+
+    // One stream per batch, so class descriptors are written once, not per record
+    private byte[] serialize(Object[] records) throws IOException {
+        bytes.reset();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            for (Object record : records) {
+                out.writeObject(record);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void deserialize(byte[] serialized, Blackhole blackhole) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            for (int i = 0; i < BATCH; i++) {
+                blackhole.consume(in.readObject());
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.AbstractClass;
+import com.example.oop.ConcreteClass;
+import com.example.oop.InterfaceImplementer;
+import com.example.oop.MyInterface;
+import com.example.oop.PolymorphismChild;
+import com.example.oop.PolymorphismParent;
+import com.example.oop.interfaces.Circle;
+import com.example.oop.interfaces.Drawable;
+import com.example.oop.interfaces.Square;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of the call-site shapes used in the polymorphism examples:
+// monomorphic (1 receiver type), bimorphic (2) and megamorphic (4).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+    private static final int SIZE = 1024;
+
+    // Extra receiver types to push PolymorphismParent.display() past bimorphic
+    static class ThirdDisplay extends PolymorphismParent {
+        @Override
+        public void display() {
+            System.out.println("Display from ThirdDisplay");
+        }
+    }
+
+    static class FourthDisplay extends PolymorphismParent {
+        @Override
+        public void display() {
+            System.out.println("Display from FourthDisplay");
+        }
+    }
+
+    private PolymorphismParent[] monomorphic;
+    private PolymorphismParent[] bimorphic;
+    private PolymorphismParent[] megamorphic;
+    private Drawable[] drawablesMono;
+    private Drawable[] drawablesBi;
+    private MyInterface defaultReceiver;
+    private AbstractClass abstractReceiver;
+
+    @Setup
+    public void setUp() {
+        QuietOutput.silence();
+        monomorphic = new PolymorphismParent[SIZE];
+        bimorphic = new PolymorphismParent[SIZE];
+        megamorphic = new PolymorphismParent[SIZE];
+        drawablesMono = new Drawable[SIZE];
+        drawablesBi = new Drawable[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            monomorphic[i] = new PolymorphismChild();
+            bimorphic[i] = i % 2 == 0 ? new PolymorphismParent() : new PolymorphismChild();
+            switch (i % 4) {
+                case 0 -> megamorphic[i] = new PolymorphismParent();
+                case 1 -> megamorphic[i] = new PolymorphismChild();
+                case 2 -> megamorphic[i] = new ThirdDisplay();
+                default -> megamorphic[i] = new FourthDisplay();
+            }
+            drawablesMono[i] = new Circle();
+            drawablesBi[i] = i % 2 == 0 ? new Circle() : new Square();
+        }
+        defaultReceiver = new InterfaceImplementer();
+        abstractReceiver = new ConcreteClass();
+    }
+
+    @TearDown
+    public void tearDown() {
+        QuietOutput.restore();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void displayMonomorphic() {
+        for (PolymorphismParent p : monomorphic) {
+            p.display();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void displayBimorphic() {
+        for (PolymorphismParent p : bimorphic) {
+            p.display();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void displayMegamorphic() {
+        for (PolymorphismParent p : megamorphic) {
+            p.display();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void drawMonomorphic(Blackhole bh) {
+        for (Drawable d : drawablesMono) {
+            bh.consume(d.draw());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void drawBimorphic(Blackhole bh) {
+        for (Drawable d : drawablesBi) {
+            bh.consume(d.draw());
+        }
+    }
+
+    @Benchmark
+    public void interfaceDefaultMethod() {
+        defaultReceiver.defaultMethod();
+    }
+
+    @Benchmark
+    public void abstractClassNormalMethod() {
+        abstractReceiver.normalMethod();
+    }
+}
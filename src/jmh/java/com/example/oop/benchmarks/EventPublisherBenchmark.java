@@ -0,0 +1,96 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.ChildClass;
+import com.example.oop.GrandChildClass;
+import com.example.oop.ParentClass;
+import com.example.oop.PolymorphismChild;
+import com.example.oop.PolymorphismParent;
+import com.example.oop.dispatch.DisplayEventSubscriber;
+import com.example.oop.dispatch.EventPublisher;
+import com.example.oop.dispatch.OverflowPolicy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Load test for EventPublisher: bursts of events in runs of the same class,
+// separated by short idle gaps, offered as fast as the policy allows.
+// Throughput is events offered per second; the aux counters report, per
+// iteration, the deepest subscriber buffer, the events dropped and the events
+// that reached the handlers.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventPublisherBenchmark {
+    private static final int BURST = 1024;
+    private static final int RUN_LENGTH = 8;
+
+    @Param({"DROP", "LATEST", "BLOCK"})
+    private OverflowPolicy policy;
+
+    @Param({"256"})
+    private int capacity;
+
+    @Param({"64"})
+    private int maxBatch;
+
+    // Idle time between bursts, in Blackhole.consumeCPU tokens
+    @Param({"1000"})
+    private long gap;
+
+    private final Object[] kinds = {new PolymorphismParent(), new PolymorphismChild(), new ParentClass(),
+            new ChildClass(), new GrandChildClass()};
+    private ExecutorService executor;
+    private EventPublisher<Object> publisher;
+    private DisplayEventSubscriber subscriber;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long maxQueueDepth;
+        public long dropped;
+        public long handled;
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        QuietOutput.silence();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        executor.shutdown();
+        QuietOutput.restore();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        publisher = new EventPublisher<>(executor, capacity, maxBatch, policy);
+        subscriber = new DisplayEventSubscriber(16);
+        publisher.subscribe(subscriber);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        publisher.close();
+        subscriber.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void burst(Counters counters) {
+        for (int i = 0; i < BURST; i++) {
+            publisher.offer(kinds[(i / RUN_LENGTH) % kinds.length]);
+        }
+        Blackhole.consumeCPU(gap);
+        counters.maxQueueDepth = publisher.maxQueueDepth();
+        counters.dropped = publisher.droppedCount();
+        counters.handled = subscriber.eventCount();
+    }
+}
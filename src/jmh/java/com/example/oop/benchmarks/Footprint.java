@@ -0,0 +1,48 @@
+package com.example.oop.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.function.Supplier;
+
+// Retained heap of a data structure, reported next to the benchmark score as
+// an auxiliary "retainedBytes" column. Benchmarks call measure() from their
+// own setup and take a Footprint parameter so JMH reports the counter; each
+// parameter combination runs in its own fork, so a static hand-off is enough.
+// The figure is only as precise as the collector's heap accounting, so treat
+// results for structures well under a megabyte as approximate.
+//
+// Allocation rate comes from the gc profiler (enabled in build.gradle).
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class Footprint {
+    public long retainedBytes;
+    private static volatile long measured;
+
+    // Builds the structure and returns it; the heap growth it caused is recorded
+    static <T> T measure(Supplier<T> builder) {
+        long before = usedHeapAfterGc();
+        T built = builder.get();
+        measured = Math.max(0, usedHeapAfterGc() - before);
+        return built;
+    }
+
+    // JMH clears aux counters at the start of each iteration, so publish at its end
+    @TearDown(Level.Iteration)
+    public void publish() {
+        retainedBytes = measured;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.storage.GradeLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Durable grade changes per second. With one writer every append pays for its
+// own force(); with 32 writers the committer folds whatever arrived during the
+// previous force() into the next one, so throughput should scale with writers
+// until the batch fills.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GradeLogBenchmark {
+    private static final char[] GRADES = {'A', 'B', 'C', 'D', 'F'};
+
+    @Param({"100000"})
+    private long snapshotInterval;
+
+    private Path directory;
+    private GradeLog log;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("grade-log-bench");
+        log = GradeLog.open(directory, snapshotInterval);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        log.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long singleWriter() throws IOException {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long groupCommit() throws IOException {
+        return append();
+    }
+
+    private long append() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return log.append(random.nextInt(10_000), 'N', GRADES[random.nextInt(GRADES.length)]);
+    }
+}
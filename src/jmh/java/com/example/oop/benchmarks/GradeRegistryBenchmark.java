@@ -0,0 +1,51 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.encapsulation.GradeRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of concurrent grade updates; run with -t 1,2,4,...,32 to check scaling.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeRegistryBenchmark {
+    private static final char[] GRADES = {'A', 'B', 'C', 'D', 'F'};
+
+    @Param({"1000000"})
+    private int students;
+
+    private GradeRegistry registry;
+
+    @Setup
+    public void setUp() {
+        int[] ids = new int[students];
+        for (int i = 0; i < students; i++) {
+            ids[i] = i;
+        }
+        registry = new GradeRegistry(ids);
+    }
+
+    @Benchmark
+    public boolean setGrade() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return registry.setGrade(random.nextInt(students), GRADES[random.nextInt(GRADES.length)]);
+    }
+
+    @Benchmark
+    public boolean compareAndSetGrade() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int id = random.nextInt(students);
+        char current = registry.getGrade(id);
+        return registry.compareAndSetGrade(id, current, GRADES[random.nextInt(GRADES.length)]);
+    }
+
+    @Benchmark
+    public char getGrade() {
+        return registry.getGrade(ThreadLocalRandom.current().nextInt(students));
+    }
+}
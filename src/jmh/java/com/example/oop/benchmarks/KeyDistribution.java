@@ -0,0 +1,36 @@
+package com.example.oop.benchmarks;
+
+import java.util.Random;
+
+// Key streams for the collection benchmarks. Keys always fall in [0, size) so
+// reads hit and writes overwrite, keeping the structure's size stable.
+final class KeyDistribution {
+    static final int STREAM_LENGTH = 1 << 16;
+
+    private KeyDistribution() {
+    }
+
+    static int[] keys(String distribution, int size, long seed) {
+        Random random = new Random(seed);
+        int[] keys = new int[STREAM_LENGTH];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = switch (distribution) {
+                case "sequential" -> i % size;
+                case "uniform" -> random.nextInt(size);
+                // Roughly 80% of accesses go to the lowest 5% of keys
+                case "skewed" -> (int) (size * Math.pow(random.nextDouble(), 13));
+                default -> throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            };
+        }
+        return keys;
+    }
+
+    static boolean[] reads(double readRatio, long seed) {
+        Random random = new Random(seed);
+        boolean[] reads = new boolean[STREAM_LENGTH];
+        for (int i = 0; i < reads.length; i++) {
+            reads[i] = random.nextDouble() < readRatio;
+        }
+        return reads;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.collections.IntArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The CollectionsTest list scenarios at scale: building a list of 'size'
+// elements and summing it by iteration.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ListWorkloadBenchmark {
+    @Param({"1000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"ArrayList", "LinkedList", "IntArrayList"})
+    private String impl;
+
+    private List<Integer> jdk;
+    private IntArrayList primitive;
+
+    @Setup
+    public void setUp() {
+        if (impl.equals("IntArrayList")) {
+            primitive = Footprint.measure(() -> buildPrimitive(size));
+        } else {
+            jdk = Footprint.measure(() -> buildJdk(impl, size));
+        }
+    }
+
+    @Benchmark
+    public Object build(Footprint footprint) {
+        return primitive != null ? buildPrimitive(size) : buildJdk(impl, size);
+    }
+
+    @Benchmark
+    public long iterate(Footprint footprint) {
+        long sum = 0;
+        if (primitive != null) {
+            for (int i = 0; i < primitive.size(); i++) {
+                sum += primitive.get(i);
+            }
+        } else {
+            for (int value : jdk) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    private static IntArrayList buildPrimitive(int size) {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static List<Integer> buildJdk(String impl, int size) {
+        List<Integer> list = impl.equals("LinkedList") ? new LinkedList<>() : new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.collections.IntIntMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// The CollectionsTest map scenarios (put, overwrite, get) at scale: a stream
+// of mixed reads and writes against a map pre-filled with 'size' entries.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class MapWorkloadBenchmark {
+    @Param({"1000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"sequential", "uniform", "skewed"})
+    private String distribution;
+
+    @Param({"0.9", "0.5"})
+    private double readRatio;
+
+    @Param({"HashMap", "TreeMap", "IntIntMap"})
+    private String impl;
+
+    private IntMapOps map;
+    private int[] keys;
+    private boolean[] reads;
+    private int cursor;
+
+    // Each impl runs in its own fork, so this call site stays monomorphic
+    interface IntMapOps {
+        int get(int key);
+
+        void put(int key, int value);
+    }
+
+    @Setup
+    public void setUp() {
+        map = Footprint.measure(() -> {
+            IntMapOps ops = create(impl, size);
+            for (int i = 0; i < size; i++) {
+                ops.put(i, i);
+            }
+            return ops;
+        });
+        keys = KeyDistribution.keys(distribution, size, 42);
+        reads = KeyDistribution.reads(readRatio, 43);
+    }
+
+    @Benchmark
+    public int mixed(Footprint footprint) {
+        int i = cursor++ & (KeyDistribution.STREAM_LENGTH - 1);
+        if (reads[i]) {
+            return map.get(keys[i]);
+        }
+        map.put(keys[i], i);
+        return i;
+    }
+
+    private static IntMapOps create(String impl, int size) {
+        return switch (impl) {
+            case "HashMap" -> boxed(new HashMap<>(size * 2));
+            case "TreeMap" -> boxed(new TreeMap<>());
+            case "IntIntMap" -> {
+                IntIntMap primitive = new IntIntMap(size);
+                yield new IntMapOps() {
+                    @Override
+                    public int get(int key) {
+                        return primitive.get(key, -1);
+                    }
+
+                    @Override
+                    public void put(int key, int value) {
+                        primitive.put(key, value);
+                    }
+                };
+            }
+            default -> throw new IllegalArgumentException("Unknown impl: " + impl);
+        };
+    }
+
+    private static IntMapOps boxed(Map<Integer, Integer> jdk) {
+        return new IntMapOps() {
+            @Override
+            public int get(int key) {
+                return jdk.getOrDefault(key, -1);
+            }
+
+            @Override
+            public void put(int key, int value) {
+                jdk.put(key, value);
+            }
+        };
+    }
+}
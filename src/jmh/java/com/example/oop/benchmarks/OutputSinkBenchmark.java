@@ -0,0 +1,42 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.output.AsyncOutputSink;
+import com.example.oop.output.OutputSink;
+import com.example.oop.output.PrintStreamSink;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+// Cost per println from several threads: the old synchronized PrintStream path
+// versus the ring-buffer sink. Both write to a discarding stream.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class OutputSinkBenchmark {
+    @Param({"printStream", "async"})
+    private String sinkType;
+
+    private OutputSink sink;
+
+    @Setup
+    public void setUp() {
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        sink = sinkType.equals("async") ? new AsyncOutputSink(discard) : new PrintStreamSink(discard);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sink.close();
+    }
+
+    @Benchmark
+    public void println() {
+        sink.println("Overridden display from PolymorphismChild");
+    }
+}
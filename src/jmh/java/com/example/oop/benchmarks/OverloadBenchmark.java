@@ -0,0 +1,43 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.OverloadExample;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Overload resolution happens at compile time, so both add() variants
+// should cost the same as a direct call. The add() overloads delegate to
+// Summation's exact adds; the inline baselines are plain wrapping arithmetic,
+// and the two should be indistinguishable.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OverloadBenchmark {
+    private final OverloadExample overload = new OverloadExample();
+    private int a = 5;
+    private int b = 10;
+    private int c = 15;
+
+    @Benchmark
+    public int addTwo() {
+        return overload.add(a, b);
+    }
+
+    @Benchmark
+    public int addThree() {
+        return overload.add(a, b, c);
+    }
+
+    @Benchmark
+    public int addTwoInline() {
+        return a + b;
+    }
+
+    @Benchmark
+    public int addThreeInline() {
+        return a + b + c;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.output.Output;
+import com.example.oop.output.OutputSink;
+
+// Demo methods print through Output; benchmarks install a discarding sink so
+// they measure dispatch rather than terminal I/O.
+final class QuietOutput {
+    private static boolean silenced;
+    private static OutputSink original;
+
+    private QuietOutput() {
+    }
+
+    static synchronized void silence() {
+        if (!silenced) {
+            original = Output.setSink(line -> { });
+            silenced = true;
+        }
+    }
+
+    static synchronized void restore() {
+        if (silenced) {
+            Output.setSink(original);
+            original = null;
+            silenced = false;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.collections.IntIntMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+// The CollectionsTest set scenarios (add, duplicate add, contains) at scale.
+// IntIntMap stands in for a primitive int set by ignoring its values.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class SetWorkloadBenchmark {
+    @Param({"1000", "1000000"})
+    private int size;
+
+    @Param({"uniform", "skewed"})
+    private String distribution;
+
+    @Param({"0.9", "0.5"})
+    private double readRatio;
+
+    @Param({"HashSet", "TreeSet", "IntIntMap"})
+    private String impl;
+
+    private Set<Integer> jdk;
+    private IntIntMap primitive;
+    private int[] keys;
+    private boolean[] reads;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        if (impl.equals("IntIntMap")) {
+            primitive = Footprint.measure(() -> {
+                IntIntMap set = new IntIntMap(size);
+                for (int i = 0; i < size; i++) {
+                    set.put(i, 1);
+                }
+                return set;
+            });
+        } else {
+            jdk = Footprint.measure(() -> {
+                Set<Integer> set = impl.equals("HashSet") ? new HashSet<>(size * 2) : new TreeSet<>();
+                for (int i = 0; i < size; i++) {
+                    set.add(i);
+                }
+                return set;
+            });
+        }
+        keys = KeyDistribution.keys(distribution, size, 42);
+        reads = KeyDistribution.reads(readRatio, 43);
+    }
+
+    @Benchmark
+    public boolean mixed(Footprint footprint) {
+        int i = cursor++ & (KeyDistribution.STREAM_LENGTH - 1);
+        if (primitive != null) {
+            return reads[i] ? primitive.containsKey(keys[i]) : primitive.put(keys[i], 1, 0) == 0;
+        }
+        return reads[i] ? jdk.contains(keys[i]) : jdk.add(keys[i]);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.abstraction.Circle;
+import com.example.oop.abstraction.ShapeAreaCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Cost of a cache hit compared with simply recomputing the area.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeAreaCacheBenchmark {
+    private static final int DISTINCT = 1024;
+
+    private ShapeAreaCache cache;
+    private Circle[] circles;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cache = new ShapeAreaCache(DISTINCT);
+        circles = new Circle[DISTINCT];
+        for (int i = 0; i < DISTINCT; i++) {
+            circles[i] = new Circle(i + 0.5);
+            cache.areaOf(circles[i]);
+        }
+    }
+
+    @Benchmark
+    public double recompute() {
+        return circles[next++ & (DISTINCT - 1)].calculateArea();
+    }
+
+    @Benchmark
+    public double cacheHit() {
+        return cache.areaOf(circles[next++ & (DISTINCT - 1)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double cacheHitContended() {
+        return cache.areaOf(circles[ThreadLocalRandom.current().nextInt(DISTINCT)]);
+    }
+}
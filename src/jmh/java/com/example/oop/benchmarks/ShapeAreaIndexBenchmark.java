@@ -0,0 +1,96 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.abstraction.Circle;
+import com.example.oop.abstraction.Shape;
+import com.example.oop.abstraction.ShapeAreaIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Area-range and largest-N queries through ShapeAreaIndex against a linear
+// scan that calls calculateArea() on every shape, plus the cost of building
+// the index by bulk load and by one-at-a-time buffered inserts.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeAreaIndexBenchmark {
+    @Param({"100000", "1000000"})
+    private int size;
+
+    // The range covers about one percent of the shapes
+    private static final double MIN_AREA = 1.0;
+    private static final double MAX_AREA = 1.0 + Math.PI * 0.01;
+    private static final int TOP_N = 100;
+
+    private List<Shape> shapes;
+    private ShapeAreaIndex<Shape> index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        shapes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            shapes.add(new Circle(random.nextDouble()));
+        }
+        index = ShapeAreaIndex.bulkLoad(shapes);
+    }
+
+    @Benchmark
+    public List<Shape> rangeScan() {
+        List<Shape> result = new ArrayList<>();
+        for (Shape shape : shapes) {
+            double area = shape.calculateArea();
+            if (area >= MIN_AREA && area <= MAX_AREA) {
+                result.add(shape);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Shape> rangeIndex() {
+        return index.range(MIN_AREA, MAX_AREA);
+    }
+
+    // Bounded min-heap, the usual way to get the top N without sorting everything
+    @Benchmark
+    public List<Shape> largestScan() {
+        PriorityQueue<Shape> heap = new PriorityQueue<>(TOP_N + 1, Comparator.comparingDouble(Shape::calculateArea));
+        for (Shape shape : shapes) {
+            heap.add(shape);
+            if (heap.size() > TOP_N) {
+                heap.poll();
+            }
+        }
+        List<Shape> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Shape::calculateArea).reversed());
+        return result;
+    }
+
+    @Benchmark
+    public List<Shape> largestIndex() {
+        return index.largest(TOP_N);
+    }
+
+    @Benchmark
+    public ShapeAreaIndex<Shape> bulkLoad() {
+        return ShapeAreaIndex.bulkLoad(shapes);
+    }
+
+    @Benchmark
+    public ShapeAreaIndex<Shape> incrementalInsert() {
+        ShapeAreaIndex<Shape> built = new ShapeAreaIndex<>();
+        for (Shape shape : shapes) {
+            built.add(shape);
+        }
+        return built;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.abstraction.Circle;
+import com.example.oop.abstraction.Shape;
+import com.example.oop.query.Shapes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Shapes query DSL against the equivalent Stream<Shape> pipeline: filtered area
+// sums (sequential and parallel) and a short-circuiting anyMatch. A third of the
+// shapes are rectangles, so the type filter has something to reject.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeQueryBenchmark {
+    static class Rectangle extends Shape {
+        private final double width;
+        private final double height;
+
+        Rectangle(double width, double height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public double calculateArea() {
+            return width * height;
+        }
+    }
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<Shape> shapes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        shapes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            shapes.add(i % 3 == 0 ? new Rectangle(random.nextDouble(), random.nextDouble()) : new Circle(random.nextDouble()));
+        }
+    }
+
+    @Benchmark
+    public double streamSum() {
+        return shapes.stream()
+                .filter(Circle.class::isInstance)
+                .map(Circle.class::cast)
+                .filter(c -> c.getRadius() > 0.5)
+                .mapToDouble(Shape::calculateArea)
+                .sum();
+    }
+
+    @Benchmark
+    public double querySum() {
+        return Shapes.from(shapes).ofType(Circle.class).where(c -> c.getRadius() > 0.5).area().sum();
+    }
+
+    @Benchmark
+    public double streamSumParallel() {
+        return shapes.parallelStream()
+                .filter(Circle.class::isInstance)
+                .map(Circle.class::cast)
+                .filter(c -> c.getRadius() > 0.5)
+                .mapToDouble(Shape::calculateArea)
+                .sum();
+    }
+
+    @Benchmark
+    public double querySumParallel() {
+        return Shapes.from(shapes).ofType(Circle.class).where(c -> c.getRadius() > 0.5).parallel().area().sum();
+    }
+
+    // The first large circle is found early, so both should stop after a few elements
+    @Benchmark
+    public boolean streamAnyMatch() {
+        return shapes.stream()
+                .filter(Circle.class::isInstance)
+                .mapToDouble(Shape::calculateArea)
+                .anyMatch(area -> area > 2.0);
+    }
+
+    @Benchmark
+    public boolean queryAnyMatch() {
+        return Shapes.from(shapes).ofType(Circle.class).area().anyMatch(area -> area > 2.0);
+    }
+}
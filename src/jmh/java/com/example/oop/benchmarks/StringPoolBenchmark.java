@@ -0,0 +1,89 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.collections.StringPool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Deduplicating one million first names drawn from 5,000 distinct values, each
+// row a freshly parsed String. retainedBytes is the heap kept by the loaded
+// column: a String[] of the raw rows ("none"), a String[] deduplicated by
+// String.intern() or a HashMap, or an int[] of StringPool handles plus the
+// pool. The score is the latency of looking up one existing name.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StringPoolBenchmark {
+    private static final int DISTINCT = 5_000;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"none", "String.intern", "HashMap", "StringPool"})
+    private String impl;
+
+    private String[] probes;
+    private Object column; // kept reachable so the measured heap stays allocated
+    private Map<String, String> dedup;
+    private StringPool pool;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        char[][] names = new char[DISTINCT][];
+        for (int i = 0; i < DISTINCT; i++) {
+            names[i] = ("Name" + Integer.toString(i * 7919, 36)).toCharArray();
+        }
+        int[] picks = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            // Squaring a uniform value skews towards common names
+            double u = random.nextDouble();
+            picks[i] = (int) (u * u * DISTINCT);
+        }
+        dedup = new HashMap<>();
+        pool = new StringPool();
+        column = Footprint.measure(() -> load(names, picks));
+        probes = new String[1024];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = new String(names[picks[random.nextInt(rows)]]);
+        }
+    }
+
+    private Object load(char[][] names, int[] picks) {
+        if (impl.equals("StringPool")) {
+            int[] handles = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                handles[i] = pool.intern(new String(names[picks[i]]));
+            }
+            return handles;
+        }
+        String[] strings = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            String parsed = new String(names[picks[i]]);
+            strings[i] = switch (impl) {
+                case "String.intern" -> parsed.intern();
+                case "HashMap" -> dedup.computeIfAbsent(parsed, s -> s);
+                default -> parsed;
+            };
+        }
+        return strings;
+    }
+
+    @Benchmark
+    public Object lookup(Footprint footprint) {
+        String probe = probes[cursor++ & (probes.length - 1)];
+        return switch (impl) {
+            case "String.intern" -> probe.intern();
+            case "HashMap" -> dedup.get(probe);
+            case "StringPool" -> pool.find(probe);
+            default -> probe;
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.encapsulation.Student;
+import com.example.oop.encapsulation.StudentBatchLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Bulk import of one million students: the single-threaded setGrade loop against
+// StudentBatchLoader on pools of 1 to 16 workers. One percent of the grades are
+// invalid, which the loop prints (to a discarding sink) and the loader reports.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentBatchLoaderBenchmark {
+    private static final char[] GRADES = {'A', 'B', 'C', 'D', 'F'};
+
+    @Param({"1000000"})
+    private int students;
+
+    private int[] ids;
+    private String[] names;
+    private char[] grades;
+
+    @Setup
+    public void setUp() {
+        QuietOutput.silence();
+        ids = new int[students];
+        names = new String[students];
+        grades = new char[students];
+        for (int i = 0; i < students; i++) {
+            ids[i] = i;
+            names[i] = "Student" + (i % 10_000);
+            grades[i] = i % 100 == 0 ? 'X' : GRADES[i % GRADES.length];
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        QuietOutput.restore();
+    }
+
+    // Only forkJoin depends on the pool size, so the loop baseline runs once
+    @State(Scope.Benchmark)
+    public static class Pool {
+        @Param({"1", "2", "4", "8", "16"})
+        private int parallelism;
+
+        private ForkJoinPool pool;
+        private StudentBatchLoader loader;
+
+        @Setup
+        public void setUp() {
+            pool = new ForkJoinPool(parallelism);
+            loader = new StudentBatchLoader(pool, 4096);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Student[] sequentialLoop() {
+        Student[] result = new Student[students];
+        for (int i = 0; i < students; i++) {
+            Student student = new Student(ids[i], names[i]);
+            student.setGrade(grades[i]);
+            result[i] = student;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public StudentBatchLoader.Batch forkJoin(Pool pool) {
+        return pool.loader.load(ids, names, grades);
+    }
+}
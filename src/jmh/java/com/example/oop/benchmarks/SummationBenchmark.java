@@ -0,0 +1,74 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.OverloadExample;
+import com.example.oop.Summation;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Bulk sums over int[], long[] and a direct IntBuffer. chainedAdd is the
+// pattern callers used before: folding an array through add(int, int).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SummationBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private int[] ints;
+    private long[] longs;
+    private IntBuffer direct;
+    private final OverloadExample overload = new OverloadExample();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ints = random.ints(size, -1000, 1000).toArray();
+        longs = random.longs(size).toArray();
+        direct = ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        direct.put(ints).flip();
+    }
+
+    @Benchmark
+    public int chainedAdd() {
+        int sum = 0;
+        for (int value : ints) {
+            sum = overload.add(sum, value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intScalar() {
+        return Summation.sumScalar(ints, 0, size);
+    }
+
+    @Benchmark
+    public long intVector() {
+        return Summation.sumVector(ints, 0, size);
+    }
+
+    // Vector path below the parallel threshold, parallel chunks above it
+    @Benchmark
+    public long intAuto() {
+        return Summation.sum(ints);
+    }
+
+    @Benchmark
+    public long intBufferDirect() {
+        return Summation.sum(direct);
+    }
+
+    @Benchmark
+    public BigInteger longWide() {
+        return Summation.sumWide(longs);
+    }
+}
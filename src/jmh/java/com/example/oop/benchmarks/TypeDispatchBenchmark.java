@@ -0,0 +1,181 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.dispatch.TypeDispatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Ways to pick type-specific behaviour across 1-, 2- and 8-type call sites:
+// a most-specific-first instanceof chain, a pattern-matching switch, a
+// TypeDispatcher and a plain virtual call.
+//
+// The demo hierarchies print in every method, which would drown the dispatch
+// cost, so this uses an eight-level chain of classes with a cheap virtual
+// method instead. Call sites with n types use the n shallowest levels, the
+// worst case for a chain that tests the deepest class first.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeDispatchBenchmark {
+    private static final int SIZE = 1024;
+
+    static class Level1 {
+        int level() {
+            return 1;
+        }
+    }
+
+    static class Level2 extends Level1 {
+        @Override
+        int level() {
+            return 2;
+        }
+    }
+
+    static class Level3 extends Level2 {
+        @Override
+        int level() {
+            return 3;
+        }
+    }
+
+    static class Level4 extends Level3 {
+        @Override
+        int level() {
+            return 4;
+        }
+    }
+
+    static class Level5 extends Level4 {
+        @Override
+        int level() {
+            return 5;
+        }
+    }
+
+    static class Level6 extends Level5 {
+        @Override
+        int level() {
+            return 6;
+        }
+    }
+
+    static class Level7 extends Level6 {
+        @Override
+        int level() {
+            return 7;
+        }
+    }
+
+    static class Level8 extends Level7 {
+        @Override
+        int level() {
+            return 8;
+        }
+    }
+
+    @Param({"1", "2", "8"})
+    private int types;
+
+    private Level1[] receivers;
+    private TypeDispatcher<Level1, Integer> dispatcher;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        receivers = new Level1[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            receivers[i] = newLevel(1 + random.nextInt(types));
+        }
+        dispatcher = new TypeDispatcher<Level1, Integer>(l -> 1)
+                .register(Level2.class, l -> 2)
+                .register(Level3.class, l -> 3)
+                .register(Level4.class, l -> 4)
+                .register(Level5.class, l -> 5)
+                .register(Level6.class, l -> 6)
+                .register(Level7.class, l -> 7)
+                .register(Level8.class, l -> 8);
+    }
+
+    private static Level1 newLevel(int level) {
+        return switch (level) {
+            case 1 -> new Level1();
+            case 2 -> new Level2();
+            case 3 -> new Level3();
+            case 4 -> new Level4();
+            case 5 -> new Level5();
+            case 6 -> new Level6();
+            case 7 -> new Level7();
+            default -> new Level8();
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int instanceofChain() {
+        int sum = 0;
+        for (Level1 receiver : receivers) {
+            if (receiver instanceof Level8) {
+                sum += 8;
+            } else if (receiver instanceof Level7) {
+                sum += 7;
+            } else if (receiver instanceof Level6) {
+                sum += 6;
+            } else if (receiver instanceof Level5) {
+                sum += 5;
+            } else if (receiver instanceof Level4) {
+                sum += 4;
+            } else if (receiver instanceof Level3) {
+                sum += 3;
+            } else if (receiver instanceof Level2) {
+                sum += 2;
+            } else {
+                sum += 1;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int patternSwitch() {
+        int sum = 0;
+        for (Level1 receiver : receivers) {
+            sum += switch (receiver) {
+                case Level8 l -> 8;
+                case Level7 l -> 7;
+                case Level6 l -> 6;
+                case Level5 l -> 5;
+                case Level4 l -> 4;
+                case Level3 l -> 3;
+                case Level2 l -> 2;
+                default -> 1;
+            };
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int typeDispatcher() {
+        int sum = 0;
+        for (Level1 receiver : receivers) {
+            sum += dispatcher.dispatch(receiver);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int virtualCall() {
+        int sum = 0;
+        for (Level1 receiver : receivers) {
+            sum += receiver.level();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.inheritance.Car;
+import com.example.oop.inheritance.VehicleIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// "All Cars of brand X with N doors": bitmap intersection vs a List<Car> filter.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VehicleIndexBenchmark {
+    private static final String[] BRANDS = {
+            "Toyota", "Honda", "Ford", "BMW", "Audi", "Kia", "Tesla", "Volvo",
+            "Mazda", "Fiat", "Seat", "Skoda", "Opel", "Dacia", "Lexus", "Mini"};
+
+    @Param({"100000", "500000"})
+    private int vehicles;
+
+    private List<Car> list;
+    private VehicleIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        list = new ArrayList<>(vehicles);
+        index = new VehicleIndex();
+        for (int i = 0; i < vehicles; i++) {
+            Car car = new Car(BRANDS[random.nextInt(BRANDS.length)], 2 + random.nextInt(4));
+            list.add(car);
+            index.add(car);
+        }
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int count = 0;
+        for (Car car : list) {
+            if (car.getBrand().equals("Volvo") && car.getNumberOfDoors() == 4) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int indexCount() {
+        return index.countCars("Volvo", 4);
+    }
+
+    @Benchmark
+    public List<Car> indexFind() {
+        return index.findCars("Volvo", 4);
+    }
+}
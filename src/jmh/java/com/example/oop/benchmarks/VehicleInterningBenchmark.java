@@ -0,0 +1,64 @@
+package com.example.oop.benchmarks;
+
+import com.example.oop.inheritance.Car;
+import com.example.oop.inheritance.CarRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Heap held by 5M cars loaded from input with only 1,000 distinct brand/door
+// combinations, as one Car per row versus interned through Car.of / CarRecord.of.
+// Each row gets a freshly built brand String, as a parser would produce. The
+// retainedBytes column is the heap the loaded array keeps alive, and the
+// score is the cost of creating or interning one car.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class VehicleInterningBenchmark {
+    private static final int BRANDS = 250;
+    private static final int[] DOORS = {2, 3, 4, 5};
+
+    @Param({"5000000"})
+    private int vehicles;
+
+    @Param({"new Car", "Car.of", "new CarRecord", "CarRecord.of"})
+    private String impl;
+
+    private char[][] brands;
+    private Object[] loaded; // kept reachable so the measured heap stays allocated
+
+    @Setup
+    public void setUp() {
+        brands = new char[BRANDS][];
+        for (int i = 0; i < BRANDS; i++) {
+            brands[i] = ("Brand-" + i).toCharArray();
+        }
+        loaded = Footprint.measure(() -> {
+            Object[] rows = new Object[vehicles];
+            for (int i = 0; i < vehicles; i++) {
+                rows[i] = create(i % BRANDS, DOORS[(i / BRANDS) % DOORS.length]);
+            }
+            return rows;
+        });
+    }
+
+    private Object create(int brand, int doors) {
+        String name = new String(brands[brand]);
+        return switch (impl) {
+            case "new Car" -> new Car(name, doors);
+            case "Car.of" -> Car.of(name, doors);
+            case "new CarRecord" -> new CarRecord(name, doors);
+            default -> CarRecord.of(name, doors);
+        };
+    }
+
+    @Benchmark
+    public Object createOne(Footprint footprint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return create(random.nextInt(BRANDS), DOORS[random.nextInt(DOORS.length)]);
+    }
+}
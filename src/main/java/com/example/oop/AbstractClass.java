@@ -1,5 +1,7 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Demonstrates Abstraction: Abstract class cannot be instantiated, provides a template.
 // Use 'abstract' keyword for class and methods without implementation.
 public abstract class AbstractClass {
@@ -8,6 +10,6 @@ public abstract class AbstractClass {
 
     // Normal method: Can be inherited as-is
     public void normalMethod() {
-        System.out.println("Normal method in AbstractClass");
+        Output.println("Normal method in AbstractClass");
     }
 }
@@ -1,5 +1,7 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Demonstrates additional OOP concepts like constructors, static, final.
 public class AdditionalConcepts {
     // Static variable: Belongs to class, not instance
@@ -14,6 +16,6 @@ public class AdditionalConcepts {
     }
 
     public void display() {
-        System.out.println("Final variable: " + finalVar);
+        Output.println("Final variable: " + finalVar);
     }
 }
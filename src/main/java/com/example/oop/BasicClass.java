@@ -1,5 +1,7 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Demonstrates Classes and Objects: A class is a blueprint, an object is an instance of the class.
 public class BasicClass {
     // Field (attribute)
@@ -12,6 +14,6 @@ public class BasicClass {
 
     // Method (behavior)
     public void displayName() {
-        System.out.println("Object name: " + name);
+        Output.println("Object name: " + name);
     }
 }
@@ -1,9 +1,11 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Demonstrates Inheritance: Child class inherits from ParentClass (extends keyword).
 // Allows code reuse and "is-a" relationship (Child "is-a" Parent).
 public class ChildClass extends ParentClass {
     public void childMethod() {
-        System.out.println("Method from ChildClass");
+        Output.println("Method from ChildClass");
     }
 }
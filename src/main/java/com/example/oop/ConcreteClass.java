@@ -1,9 +1,11 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Concrete class implementing the abstract class
 public class ConcreteClass extends AbstractClass {
     @Override
     public void abstractMethod() {
-        System.out.println("Implemented abstractMethod in ConcreteClass");
+        Output.println("Implemented abstractMethod in ConcreteClass");
     }
 }
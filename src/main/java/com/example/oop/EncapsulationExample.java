@@ -1,5 +1,7 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Demonstrates Encapsulation: Bundling data and methods, restricting access to data (data hiding).
 public class EncapsulationExample {
     // Private field: Cannot be accessed directly from outside
@@ -15,7 +17,7 @@ public class EncapsulationExample {
         if (secret != null && !secret.isEmpty()) {
             this.secret = secret;
         } else {
-            System.out.println("Invalid secret value");
+            Output.println("Invalid secret value");
         }
     }
 }
@@ -1,8 +1,10 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Demonstrates Multilevel Inheritance: GrandChild extends Child, which extends Parent.
 public class GrandChildClass extends ChildClass {
     public void grandChildMethod() {
-        System.out.println("Method from GrandChildClass");
+        Output.println("Method from GrandChildClass");
     }
 }
@@ -1,9 +1,11 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Class implementing the interface
 public class InterfaceImplementer implements MyInterface {
     @Override
     public void interfaceMethod() {
-        System.out.println("Implemented interfaceMethod");
+        Output.println("Implemented interfaceMethod");
     }
 }
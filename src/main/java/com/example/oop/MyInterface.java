@@ -1,5 +1,7 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Demonstrates Abstraction via Interface: A contract with method signatures (no implementation until default/static).
 // Classes 'implement' interfaces.
 public interface MyInterface {
@@ -8,7 +10,7 @@ public interface MyInterface {
 
     // Default method (Java 8+): Provides default implementation
     default void defaultMethod() {
-        System.out.println("Default method in interface");
+        Output.println("Default method in interface");
     }
 
     // Static method (Java 8+): Can be called without instance
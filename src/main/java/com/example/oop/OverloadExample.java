@@ -1,14 +1,37 @@
 package com.example.oop;
 
+import com.example.oop.instrumentation.Instrumentation;
+
 // Demonstrates Polymorphism via Method Overloading: Same method name, different parameters.
+// Sums are exact: they throw ArithmeticException rather than overflow silently.
 public class OverloadExample {
     // Overloaded method with 2 params
     public int add(int a, int b) {
-        return a + b;
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        int sum = Summation.sumExact(a, b);
+        if (Instrumentation.ENABLED) {
+            Instrumentation.overloadAdd(2, sum, start);
+        }
+        return sum;
     }
 
     // Overloaded method with 3 params
     public int add(int a, int b, int c) {
-        return a + b + c;
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        int sum = Summation.sumExact(a, b, c);
+        if (Instrumentation.ENABLED) {
+            Instrumentation.overloadAdd(3, sum, start);
+        }
+        return sum;
+    }
+
+    // Varargs overload for any other count; use Summation directly for big arrays
+    public int add(int... values) {
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        int sum = Summation.sumExact(values);
+        if (Instrumentation.ENABLED) {
+            Instrumentation.overloadAdd(values.length, sum, start);
+        }
+        return sum;
     }
 }
@@ -1,8 +1,10 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Base class for Inheritance demonstration
 public class ParentClass {
     public void parentMethod() {
-        System.out.println("Method from ParentClass");
+        Output.println("Method from ParentClass");
     }
 }
@@ -1,9 +1,11 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Demonstrates Polymorphism via Method Overriding: Same method name/signature as parent, but different implementation.
 public class PolymorphismChild extends PolymorphismParent {
     @Override
     public void display() {
-        System.out.println("Overridden display from PolymorphismChild");
+        Output.println("Overridden display from PolymorphismChild");
     }
 }
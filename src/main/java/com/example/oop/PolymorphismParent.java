@@ -1,8 +1,10 @@
 package com.example.oop;
 
+import com.example.oop.output.Output;
+
 // Base class for Polymorphism (Overriding) demonstration
 public class PolymorphismParent {
     public void display() {
-        System.out.println("Display from PolymorphismParent");
+        Output.println("Display from PolymorphismParent");
     }
 }
@@ -0,0 +1,207 @@
+package com.example.oop;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.stream.IntStream;
+
+// Bulk summation of int and long arrays and buffers. Each input type has two modes:
+// exact ("sumExact"), which throws ArithmeticException when the true sum does
+// not fit the element type, and widening ("sum"/"sumWide"), which returns a
+// wider type that always holds it. Only the final sum is checked, so partial
+// sums may leave the range and come back.
+//
+// int sums accumulate in long, which cannot overflow for any Java array.
+// long sums accumulate in 128 bits (a high word counting carries and signs).
+// Large arrays are split into chunks summed in parallel. Each chunk, and
+// every array below the threshold, takes the Vector API path (SummationVector),
+// and the tail of each chunk takes an unrolled scalar loop.
+//
+// The Vector API is an incubator module that only resolves when the JVM runs
+// with --add-modules jdk.incubator.vector. Without it every path falls back to
+// scalar loops and SummationVector is never loaded. The module check sits in a
+// holder class, so the small exact adds that Main uses never run it.
+public final class Summation {
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+    private static final int PARALLEL_CHUNK = 1 << 16;
+
+    private Summation() {
+    }
+
+    public static int sumExact(int a, int b) {
+        return Math.addExact(a, b);
+    }
+
+    public static int sumExact(int a, int b, int c) {
+        return Math.toIntExact((long) a + b + c);
+    }
+
+    public static int sumExact(int[] values) {
+        return Math.toIntExact(sum(values));
+    }
+
+    public static long sum(int[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    public static long sum(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        if (to - from < PARALLEL_THRESHOLD) {
+            return sumChunk(values, from, to);
+        }
+        int chunks = chunkCount(from, to);
+        return IntStream.range(0, chunks).parallel()
+                .mapToLong(chunk -> sumChunk(values, chunkStart(from, chunk), chunkEnd(from, to, chunk)))
+                .sum();
+    }
+
+    public static long sumExact(long[] values) {
+        return sumExact(values, 0, values.length);
+    }
+
+    public static long sumExact(long[] values, int from, int to) {
+        long[] wide = sumWide128(values, from, to);
+        if (wide[0] != wide[1] >> 63) {
+            throw new ArithmeticException("long overflow");
+        }
+        return wide[1];
+    }
+
+    public static BigInteger sumWide(long[] values) {
+        return sumWide(values, 0, values.length);
+    }
+
+    public static BigInteger sumWide(long[] values, int from, int to) {
+        long[] wide = sumWide128(values, from, to);
+        return BigInteger.valueOf(wide[0]).shiftLeft(64).add(new BigInteger(Long.toUnsignedString(wide[1])));
+    }
+
+    // Sums the remaining ints without moving the buffer's position
+    public static long sum(IntBuffer buffer) {
+        if (buffer.hasArray()) {
+            int from = buffer.arrayOffset() + buffer.position();
+            return sum(buffer.array(), from, from + buffer.remaining());
+        }
+        if (buffer.isDirect()) {
+            MemorySegment segment = MemorySegment.ofBuffer(buffer);
+            return VectorModule.PRESENT ? SummationVector.sum(segment, buffer.order()) : sumScalar(segment, buffer.order());
+        }
+        long sum = 0;
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            sum += buffer.get(i);
+        }
+        return sum;
+    }
+
+    public static int sumExact(IntBuffer buffer) {
+        return Math.toIntExact(sum(buffer));
+    }
+
+    // Unrolled scalar loop; independent accumulators let the CPU overlap the adds
+    public static long sumScalar(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += values[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    // Vector API path; needs --add-modules jdk.incubator.vector
+    public static long sumVector(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        if (!VectorModule.PRESENT) {
+            throw new UnsupportedOperationException("jdk.incubator.vector is not in the boot layer");
+        }
+        return SummationVector.sum(values, from, to);
+    }
+
+    private static long sumChunk(int[] values, int from, int to) {
+        return VectorModule.PRESENT ? SummationVector.sum(values, from, to) : sumScalar(values, from, to);
+    }
+
+    private static long sumScalar(MemorySegment segment, ByteOrder order) {
+        ValueLayout.OfInt layout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(order);
+        long sum = 0;
+        for (long offset = 0; offset + Integer.BYTES <= segment.byteSize(); offset += Integer.BYTES) {
+            sum += segment.get(layout, offset);
+        }
+        return sum;
+    }
+
+    // Returns {high, low} of the 128-bit sum
+    private static long[] sumWide128(long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        if (to - from < PARALLEL_THRESHOLD) {
+            long[] wide = new long[2];
+            addWide128(values, from, to, wide);
+            return wide;
+        }
+        int chunks = chunkCount(from, to);
+        long[][] partials = new long[chunks][2];
+        IntStream.range(0, chunks).parallel()
+                .forEach(chunk -> addWide128(values, chunkStart(from, chunk), chunkEnd(from, to, chunk), partials[chunk]));
+        long[] wide = new long[2];
+        for (long[] partial : partials) {
+            long low = wide[1] + partial[1];
+            wide[0] += partial[0] + (Long.compareUnsigned(low, wide[1]) < 0 ? 1 : 0);
+            wide[1] = low;
+        }
+        return wide;
+    }
+
+    private static void addWide128(long[] values, int from, int to, long[] wide) {
+        if (VectorModule.PRESENT) {
+            SummationVector.addWide128(values, from, to, wide);
+        } else {
+            addWide128Scalar(values, from, to, wide);
+        }
+    }
+
+    // Adds values[from, to) to the 128-bit accumulator {high, low}: each value
+    // adds its sign to the high word, and a carry out of the low word shows up
+    // as the unsigned sum being smaller than before
+    static void addWide128Scalar(long[] values, int from, int to, long[] wide) {
+        long h = wide[0];
+        long l = wide[1];
+        for (int i = from; i < to; i++) {
+            long sum = l + values[i];
+            h += (values[i] >> 63) + (Long.compareUnsigned(sum, l) < 0 ? 1 : 0);
+            l = sum;
+        }
+        wide[0] = h;
+        wide[1] = l;
+    }
+
+    private static int chunkCount(int from, int to) {
+        return (to - from + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+    }
+
+    private static int chunkStart(int from, int chunk) {
+        return from + chunk * PARALLEL_CHUNK;
+    }
+
+    private static int chunkEnd(int from, int to, int chunk) {
+        return (int) Math.min(to, (long) chunkStart(from, chunk) + PARALLEL_CHUNK);
+    }
+
+    static void checkRange(int length, int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + length);
+        }
+    }
+
+    // Initialized on the first bulk sum, not with Summation
+    private static final class VectorModule {
+        static final boolean PRESENT = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.oop;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API kernels for Summation. Kept in their own class so the incubator
+// module is only needed once Summation has checked that it is present.
+final class SummationVector {
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private SummationVector() {
+    }
+
+    // Each int vector is widened into two long vectors before adding
+    static long sum(int[] values, int from, int to) {
+        LongVector acc = LongVector.zero(LONG_SPECIES);
+        int i = from;
+        int bound = from + INT_SPECIES.loopBound(to - from);
+        for (; i < bound; i += INT_SPECIES.length()) {
+            IntVector v = IntVector.fromArray(INT_SPECIES, values, i);
+            acc = acc.add(v.convertShape(VectorOperators.I2L, LONG_SPECIES, 0))
+                    .add(v.convertShape(VectorOperators.I2L, LONG_SPECIES, 1));
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + Summation.sumScalar(values, i, to);
+    }
+
+    static long sum(MemorySegment segment, ByteOrder order) {
+        long count = segment.byteSize() / Integer.BYTES;
+        LongVector acc = LongVector.zero(LONG_SPECIES);
+        long i = 0;
+        long bound = INT_SPECIES.loopBound(count);
+        for (; i < bound; i += INT_SPECIES.length()) {
+            IntVector v = IntVector.fromMemorySegment(INT_SPECIES, segment, i * Integer.BYTES, order);
+            acc = acc.add(v.convertShape(VectorOperators.I2L, LONG_SPECIES, 0))
+                    .add(v.convertShape(VectorOperators.I2L, LONG_SPECIES, 1));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < count; i++) {
+            sum += segment.get(ValueLayout.JAVA_INT_UNALIGNED.withOrder(order), i * Integer.BYTES);
+        }
+        return sum;
+    }
+
+    // Same as Summation.addWide128Scalar, lane by lane: each lane keeps its own
+    // low and high word, then the lanes are folded into the accumulator
+    static void addWide128(long[] values, int from, int to, long[] wide) {
+        LongVector low = LongVector.zero(LONG_SPECIES);
+        LongVector high = LongVector.zero(LONG_SPECIES);
+        LongVector one = LongVector.broadcast(LONG_SPECIES, 1);
+        int i = from;
+        int bound = from + LONG_SPECIES.loopBound(to - from);
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            LongVector v = LongVector.fromArray(LONG_SPECIES, values, i);
+            LongVector sum = low.add(v);
+            VectorMask<Long> carry = sum.compare(VectorOperators.UNSIGNED_LT, low);
+            high = high.add(v.lanewise(VectorOperators.ASHR, 63)).add(one, carry);
+            low = sum;
+        }
+        long h = wide[0] + high.reduceLanes(VectorOperators.ADD);
+        long l = wide[1];
+        for (int lane = 0; lane < LONG_SPECIES.length(); lane++) {
+            long sum = l + low.lane(lane);
+            h += Long.compareUnsigned(sum, l) < 0 ? 1 : 0;
+            l = sum;
+        }
+        wide[0] = h;
+        wide[1] = l;
+        Summation.addWide128Scalar(values, i, to, wide);
+    }
+}
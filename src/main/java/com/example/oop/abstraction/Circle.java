@@ -1,11 +1,33 @@
 package com.example.oop.abstraction;
 
+import com.example.oop.codec.GenerateCodec;
+import com.example.oop.instrumentation.Instrumentation;
+
+@GenerateCodec
 public class Circle extends Shape {
     private final double radius;
     public Circle(double radius) { this.radius = radius; }
+    public double getRadius() { return radius; }
 
     @Override
     public double calculateArea() {
-        return Math.PI * radius * radius;
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        double area = Math.PI * radius * radius;
+        if (Instrumentation.ENABLED) {
+            Instrumentation.shapeArea(this, area, start);
+        }
+        return area;
+    }
+
+    // Value-based equality: two circles with the same radius are interchangeable
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Circle other && getClass() == other.getClass()
+                && Double.compare(radius, other.radius) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(radius);
     }
 }
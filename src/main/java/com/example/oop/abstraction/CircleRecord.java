@@ -0,0 +1,17 @@
+package com.example.oop.abstraction;
+
+// Record counterpart of Circle with the same value semantics. Records cannot
+// extend Shape, so convert with toCircle() where a Shape is needed.
+public record CircleRecord(double radius) {
+    public static CircleRecord from(Circle circle) {
+        return new CircleRecord(circle.getRadius());
+    }
+
+    public double calculateArea() {
+        return Math.PI * radius * radius;
+    }
+
+    public Circle toCircle() {
+        return new Circle(radius);
+    }
+}
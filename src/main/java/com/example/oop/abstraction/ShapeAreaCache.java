@@ -0,0 +1,162 @@
+package com.example.oop.abstraction;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bounded cache of calculateArea() results, keyed by the shape's own
+// equals/hashCode (see Circle). Eviction is a segmented LRU: new entries start
+// in a small probation segment and are promoted to the protected segment on
+// their second hit, so a burst of one-off shapes cannot flush the hot ones.
+//
+// Lookups go through a ConcurrentHashMap and never block; LRU bookkeeping is
+// done under a lock that hits only try to take, skipping the reorder if busy.
+public class ShapeAreaCache {
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final int maximumSize;
+    private final int protectedCapacity;
+    private final ConcurrentHashMap<Shape, Node> map = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Node probation = Node.sentinel();
+    private final Node protectedSegment = Node.sentinel();
+    private int protectedSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ShapeAreaCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        // At least one slot, or a single-entry cache would demote from an empty segment
+        this.protectedCapacity = Math.max(1, (int) (maximumSize * PROTECTED_RATIO));
+    }
+
+    public double areaOf(Shape shape) {
+        Node node = map.get(shape);
+        if (node != null) {
+            hits.increment();
+            if (lock.tryLock()) {
+                try {
+                    onHit(node);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return node.area;
+        }
+        misses.increment();
+        double area = shape.calculateArea();
+        lock.lock();
+        try {
+            if (map.containsKey(shape)) {
+                return area; // another thread cached it meanwhile
+            }
+            Node added = new Node(shape, area);
+            map.put(shape, added);
+            added.linkAfter(probation);
+            while (map.size() > maximumSize) {
+                evict();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return area;
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            map.clear();
+            probation.prev = probation.next = probation;
+            protectedSegment.prev = protectedSegment.next = protectedSegment;
+            protectedSize = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onHit(Node node) {
+        if (map.get(node.shape) != node) {
+            return; // evicted or cleared since the map lookup; its links are stale
+        }
+        node.unlink();
+        if (!node.isProtected) {
+            node.isProtected = true;
+            protectedSize++;
+            if (protectedSize > protectedCapacity && protectedSegment.prev != protectedSegment) {
+                // Demote the least recently used protected entry back to probation
+                Node demoted = protectedSegment.prev;
+                demoted.unlink();
+                demoted.isProtected = false;
+                protectedSize--;
+                demoted.linkAfter(probation);
+            }
+        }
+        node.linkAfter(node.isProtected ? protectedSegment : probation);
+    }
+
+    private void evict() {
+        Node victim = probation.prev != probation ? probation.prev : protectedSegment.prev;
+        if (victim.isProtected) {
+            protectedSize--;
+        }
+        victim.unlink();
+        map.remove(victim.shape, victim);
+        evictions.increment();
+    }
+
+    // Intrusive doubly-linked list node; each segment is a circular list around a sentinel
+    private static final class Node {
+        final Shape shape;
+        final double area;
+        boolean isProtected;
+        Node prev;
+        Node next;
+
+        Node(Shape shape, double area) {
+            this.shape = shape;
+            this.area = area;
+        }
+
+        static Node sentinel() {
+            Node sentinel = new Node(null, 0);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        void linkAfter(Node head) {
+            prev = head;
+            next = head.next;
+            head.next.prev = this;
+            head.next = this;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
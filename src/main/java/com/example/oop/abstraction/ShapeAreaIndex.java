@@ -0,0 +1,294 @@
+package com.example.oop.abstraction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Shapes sorted by area, so area-range and largest-N queries cost a binary
+// search plus the matches instead of a calculateArea() call per shape. Each
+// area is computed once, when the shape is added.
+//
+// Areas live in a primitive double[] with the shapes in a parallel array. New
+// shapes go into a small sorted buffer (a binary-search insert into at most
+// bufferCapacity entries). When the buffer fills, it is merged into the main
+// arrays in place, from the back, in one linear pass. The main arrays keep
+// spare capacity and double when a merge does not fit, so most flushes do not
+// reallocate them. Queries read both and merge the results.
+//
+// Bulk loads sort with a fork/join merge sort over the parallel arrays.
+// Not thread-safe.
+public class ShapeAreaIndex<S extends Shape> {
+    private static final int DEFAULT_BUFFER_CAPACITY = 1024;
+    private static final int PARALLEL_SORT_THRESHOLD = 8192;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final int bufferCapacity;
+
+    private double[] areas = new double[0];
+    private Object[] shapes = new Object[0];
+    private int size;
+
+    private final double[] bufferAreas;
+    private final Object[] bufferShapes;
+    private int bufferSize;
+
+    public ShapeAreaIndex() {
+        this(DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public ShapeAreaIndex(int bufferCapacity) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("bufferCapacity must be positive: " + bufferCapacity);
+        }
+        this.bufferCapacity = bufferCapacity;
+        this.bufferAreas = new double[bufferCapacity];
+        this.bufferShapes = new Object[bufferCapacity];
+    }
+
+    // Index over the shapes, sorted on the common fork/join pool
+    public static <S extends Shape> ShapeAreaIndex<S> bulkLoad(Collection<? extends S> shapes) {
+        ShapeAreaIndex<S> index = new ShapeAreaIndex<>();
+        index.addAll(shapes);
+        return index;
+    }
+
+    public void add(S shape) {
+        double area = areaOf(shape);
+        if (bufferSize == bufferCapacity) {
+            flush();
+        }
+        int at = upperBound(bufferAreas, 0, bufferSize, area);
+        System.arraycopy(bufferAreas, at, bufferAreas, at + 1, bufferSize - at);
+        System.arraycopy(bufferShapes, at, bufferShapes, at + 1, bufferSize - at);
+        bufferAreas[at] = area;
+        bufferShapes[at] = shape;
+        bufferSize++;
+    }
+
+    // Sorts the new shapes on their own and merges them in with one pass
+    public void addAll(Collection<? extends S> newShapes) {
+        int count = newShapes.size();
+        if (count <= bufferCapacity - bufferSize) {
+            for (S shape : newShapes) {
+                add(shape);
+            }
+            return;
+        }
+        double[] newAreas = new double[count];
+        Object[] newValues = newShapes.toArray();
+        for (int i = 0; i < count; i++) {
+            newAreas[i] = areaOf((Shape) newValues[i]);
+        }
+        sort(newAreas, newValues);
+        flush();
+        mergeIntoMain(newAreas, newValues, count);
+    }
+
+    public int size() {
+        return size + bufferSize;
+    }
+
+    // Number of shapes with minArea <= area <= maxArea
+    public int countInRange(double minArea, double maxArea) {
+        if (!(minArea <= maxArea)) {
+            return 0;
+        }
+        return upperBound(areas, 0, size, maxArea) - lowerBound(areas, 0, size, minArea)
+                + upperBound(bufferAreas, 0, bufferSize, maxArea) - lowerBound(bufferAreas, 0, bufferSize, minArea);
+    }
+
+    // Shapes with minArea <= area <= maxArea, smallest area first
+    public List<S> range(double minArea, double maxArea) {
+        int from = lowerBound(areas, 0, size, minArea);
+        int to = upperBound(areas, 0, size, maxArea);
+        int bufferFrom = lowerBound(bufferAreas, 0, bufferSize, minArea);
+        int bufferTo = upperBound(bufferAreas, 0, bufferSize, maxArea);
+        List<S> result = new ArrayList<>(Math.max(0, to - from) + Math.max(0, bufferTo - bufferFrom));
+        while (from < to || bufferFrom < bufferTo) {
+            if (bufferFrom == bufferTo || (from < to && areas[from] <= bufferAreas[bufferFrom])) {
+                result.add(shapeAt(shapes, from++));
+            } else {
+                result.add(shapeAt(bufferShapes, bufferFrom++));
+            }
+        }
+        return result;
+    }
+
+    // Same as range(), keeping only shapes of the given type
+    public <T extends S> List<T> range(Class<T> type, double minArea, double maxArea) {
+        List<T> result = new ArrayList<>();
+        for (S shape : range(minArea, maxArea)) {
+            if (type.isInstance(shape)) {
+                result.add(type.cast(shape));
+            }
+        }
+        return result;
+    }
+
+    // Up to n shapes with the largest areas, largest first
+    public List<S> largest(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        List<S> result = new ArrayList<>(Math.min(n, size()));
+        int main = size - 1;
+        int buffer = bufferSize - 1;
+        while (result.size() < n && (main >= 0 || buffer >= 0)) {
+            if (buffer < 0 || (main >= 0 && areas[main] >= bufferAreas[buffer])) {
+                result.add(shapeAt(shapes, main--));
+            } else {
+                result.add(shapeAt(bufferShapes, buffer--));
+            }
+        }
+        return result;
+    }
+
+    // Moves the buffered shapes into the main arrays
+    public void flush() {
+        if (bufferSize > 0) {
+            mergeIntoMain(bufferAreas, bufferShapes, bufferSize);
+            Arrays.fill(bufferShapes, 0, bufferSize, null);
+            bufferSize = 0;
+        }
+    }
+
+    // Fills from the highest index down, so no unmerged main entry is overwritten.
+    // On equal areas the added shapes go after the ones already in the index.
+    private void mergeIntoMain(double[] addAreas, Object[] addShapes, int count) {
+        int merged = size + count;
+        if (merged > areas.length) {
+            int capacity = Math.max(merged, areas.length * 2);
+            areas = Arrays.copyOf(areas, capacity);
+            shapes = Arrays.copyOf(shapes, capacity);
+        }
+        int i = size - 1;
+        int j = count - 1;
+        for (int k = merged - 1; j >= 0; k--) {
+            if (i >= 0 && areas[i] > addAreas[j]) {
+                areas[k] = areas[i];
+                shapes[k] = shapes[i--];
+            } else {
+                areas[k] = addAreas[j];
+                shapes[k] = addShapes[j--];
+            }
+        }
+        size = merged;
+    }
+
+    private static double areaOf(Shape shape) {
+        double area = shape.calculateArea();
+        if (Double.isNaN(area)) {
+            throw new IllegalArgumentException("Shape has no comparable area: " + shape);
+        }
+        return area;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> S shapeAt(Object[] shapes, int index) {
+        return (S) shapes[index];
+    }
+
+    // First index whose area is >= key
+    private static int lowerBound(double[] areas, int from, int to, double key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (areas[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    // First index whose area is > key
+    private static int upperBound(double[] areas, int from, int to, double key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (areas[mid] <= key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    // Stable sort of areas, moving values along with them
+    static void sort(double[] areas, Object[] values) {
+        double[] areaScratch = areas.clone();
+        Object[] valueScratch = values.clone();
+        SortTask task = new SortTask(areaScratch, valueScratch, areas, values, 0, areas.length);
+        if (areas.length < PARALLEL_SORT_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    // Top-down merge sort that sorts [from, to) of src into dst, with both
+    // arrays starting as copies of each other so the halves can ping-pong
+    private static final class SortTask extends RecursiveAction {
+        private final double[] srcAreas;
+        private final Object[] srcValues;
+        private final double[] dstAreas;
+        private final Object[] dstValues;
+        private final int from;
+        private final int to;
+
+        SortTask(double[] srcAreas, Object[] srcValues, double[] dstAreas, Object[] dstValues, int from, int to) {
+            this.srcAreas = srcAreas;
+            this.srcValues = srcValues;
+            this.dstAreas = dstAreas;
+            this.dstValues = dstValues;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(dstAreas, dstValues, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            SortTask left = new SortTask(dstAreas, dstValues, srcAreas, srcValues, from, mid);
+            SortTask right = new SortTask(dstAreas, dstValues, srcAreas, srcValues, mid, to);
+            if (to - from >= PARALLEL_SORT_THRESHOLD) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            int i = from;
+            int j = mid;
+            for (int k = from; k < to; k++) {
+                if (j == to || (i < mid && srcAreas[i] <= srcAreas[j])) {
+                    dstAreas[k] = srcAreas[i];
+                    dstValues[k] = srcValues[i++];
+                } else {
+                    dstAreas[k] = srcAreas[j];
+                    dstValues[k] = srcValues[j++];
+                }
+            }
+        }
+
+        private static void insertionSort(double[] areas, Object[] values, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                double area = areas[i];
+                Object value = values[i];
+                int j = i - 1;
+                while (j >= from && areas[j] > area) {
+                    areas[j + 1] = areas[j];
+                    values[j + 1] = values[j];
+                    j--;
+                }
+                areas[j + 1] = area;
+                values[j + 1] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.oop.abstraction;
+
+import com.example.oop.collections.IntArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// Computes areas for many shapes at once. Circles are grouped into a plain
+// double[] of radii (struct-of-arrays) so the area loop has no virtual calls;
+// any other Shape falls back to calculateArea().
+public class ShapeBatch {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private double[] radii = new double[16];
+    private int[] circlePositions = new int[16];
+    // Scratch for areas(), sized with radii so a call allocates nothing
+    private double[] circleAreas = new double[16];
+    private int circleCount;
+
+    private final List<Shape> others = new ArrayList<>();
+    private final IntArrayList otherPositions = new IntArrayList();
+    private int size;
+
+    public void add(Shape shape) {
+        if (shape.getClass() == Circle.class) {
+            if (circleCount == radii.length) {
+                radii = Arrays.copyOf(radii, circleCount * 2);
+                circlePositions = Arrays.copyOf(circlePositions, circleCount * 2);
+                circleAreas = new double[circleCount * 2];
+            }
+            radii[circleCount] = ((Circle) shape).getRadius();
+            circlePositions[circleCount++] = size++;
+        } else {
+            others.add(shape);
+            otherPositions.add(size++);
+        }
+    }
+
+    public void addAll(List<? extends Shape> shapes) {
+        for (Shape shape : shapes) {
+            add(shape);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Writes the area of every added shape into out, in insertion order
+    public void areas(double[] out) {
+        if (out.length < size) {
+            throw new IllegalArgumentException("Output array too small: " + out.length + " < " + size);
+        }
+        circleAreas(radii, circleCount, circleAreas);
+        for (int i = 0; i < circleCount; i++) {
+            out[circlePositions[i]] = circleAreas[i];
+        }
+        for (int i = 0; i < others.size(); i++) {
+            out[otherPositions.get(i)] = others.get(i).calculateArea();
+        }
+    }
+
+    public double totalArea() {
+        double[] out = new double[size];
+        areas(out);
+        double total = 0;
+        for (double area : out) {
+            total += area;
+        }
+        return total;
+    }
+
+    // Vectorized circle areas; the multiplication order matches Circle.calculateArea()
+    // so results are bit-for-bit identical to the scalar version
+    public static void areas(double[] radii, double[] out) {
+        checkLengths(radii, out);
+        circleAreas(radii, radii.length, out);
+    }
+
+    public static void areasScalar(double[] radii, double[] out) {
+        checkLengths(radii, out);
+        for (int i = 0; i < radii.length; i++) {
+            out[i] = Math.PI * radii[i] * radii[i];
+        }
+    }
+
+    private static void circleAreas(double[] radii, int length, double[] out) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radii, i);
+            DoubleVector.broadcast(SPECIES, Math.PI).mul(r).mul(r).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = Math.PI * radii[i] * radii[i];
+        }
+    }
+
+    private static void checkLengths(double[] radii, double[] out) {
+        if (out.length < radii.length) {
+            throw new IllegalArgumentException("Output array too small: " + out.length + " < " + radii.length);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.oop.codec;
+
+import java.nio.ByteBuffer;
+
+// Binary encoding of one model class, written and read at the buffer's
+// current position. Implementations are generated (see GenerateCodec) and
+// stateless, so one instance serves every thread and buffer.
+public interface Codec<T> {
+    // Throws BufferOverflowException if the value does not fit; check
+    // encodedSize() first when reusing a fixed-size buffer
+    void encode(T value, ByteBuffer out);
+
+    T decode(ByteBuffer in);
+
+    // Exact number of bytes encode() writes for the value
+    int encodedSize(T value);
+}
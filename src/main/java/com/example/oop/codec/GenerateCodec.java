@@ -0,0 +1,27 @@
+package com.example.oop.codec;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Asks the codec processor (the codec-processor build) to generate a
+// <SimpleName>Codec next to the annotated class.
+//
+// The encoded properties are the parameters of the public constructor with
+// the most parameters that all match a getter by name and type, followed by
+// any other property that has both a getter and a setter. Annotated subclasses
+// compiled together with the class are encoded through its codec too, behind
+// a varint subtype tag. Each such subclass declares its tag, which is part of
+// the wire format: keep it when classes are renamed or added, and never reuse
+// one. Tags must be positive and unique among the subclasses of a type; the
+// processor rejects the build otherwise.
+//
+// CLASS retention, because Gradle's incremental compilation reads the
+// annotation back from unchanged class files.
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateCodec {
+    // Subtype tag in the codecs of annotated superclasses; 0 means none
+    int tag() default 0;
+}
@@ -0,0 +1,186 @@
+package com.example.oop.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+// Field encodings shared by the generated codecs:
+//   varint        unsigned LEB128, 7 bits per byte (lengths and subtype tags)
+//   signed varint zigzag, then varint, so small negative numbers stay short
+//   string        varint (UTF-8 length + 1), then the UTF-8 bytes; 0 means null
+//   char8         one byte, for chars up to U+00FF such as grades
+//   float/double  IEEE 754 bits, little-endian whatever the buffer's order
+public final class Wire {
+    private Wire() {
+    }
+
+    public static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    public static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public static int varintSize(int value) {
+        return value == 0 ? 1 : (38 - Integer.numberOfLeadingZeros(value)) / 7;
+    }
+
+    public static void putSignedVarint(ByteBuffer out, int value) {
+        putVarint(out, (value << 1) ^ (value >> 31));
+    }
+
+    public static int getSignedVarint(ByteBuffer in) {
+        int zigzag = getVarint(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public static int signedVarintSize(int value) {
+        return varintSize((value << 1) ^ (value >> 31));
+    }
+
+    public static void putSignedVarlong(ByteBuffer out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.put((byte) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.put((byte) zigzag);
+    }
+
+    public static long getSignedVarlong(ByteBuffer in) {
+        long zigzag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = in.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varlong");
+    }
+
+    public static int signedVarlongSize(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        return zigzag == 0 ? 1 : (70 - Long.numberOfLeadingZeros(zigzag)) / 7;
+    }
+
+    // Encodes straight into the buffer, without an intermediate byte[]
+    public static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            putVarint(out, 0);
+            return;
+        }
+        putVarint(out, utf8Length(value) + 1);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | cp >> 18)).put((byte) (0x80 | cp >> 12 & 0x3F))
+                        .put((byte) (0x80 | cp >> 6 & 0x3F)).put((byte) (0x80 | cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?'); // unpaired surrogate, as String.getBytes does
+            } else {
+                out.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    public static String getString(ByteBuffer in) {
+        int length = getVarint(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(in.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+
+    public static int stringSize(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int length = utf8Length(value);
+        return varintSize(length + 1) + length;
+    }
+
+    public static void putChar8(ByteBuffer out, char value) {
+        if (value > 0xFF) {
+            throw new IllegalArgumentException("Char does not fit in one byte: U+" + Integer.toHexString(value));
+        }
+        out.put((byte) value);
+    }
+
+    public static char getChar8(ByteBuffer in) {
+        return (char) (in.get() & 0xFF);
+    }
+
+    public static void putDouble(ByteBuffer out, double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        out.putLong(out.order() == ByteOrder.LITTLE_ENDIAN ? bits : Long.reverseBytes(bits));
+    }
+
+    public static double getDouble(ByteBuffer in) {
+        long bits = in.getLong();
+        return Double.longBitsToDouble(in.order() == ByteOrder.LITTLE_ENDIAN ? bits : Long.reverseBytes(bits));
+    }
+
+    public static void putFloat(ByteBuffer out, float value) {
+        int bits = Float.floatToRawIntBits(value);
+        out.putInt(out.order() == ByteOrder.LITTLE_ENDIAN ? bits : Integer.reverseBytes(bits));
+    }
+
+    public static float getFloat(ByteBuffer in) {
+        int bits = in.getInt();
+        return Float.intBitsToFloat(in.order() == ByteOrder.LITTLE_ENDIAN ? bits : Integer.reverseBytes(bits));
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.oop.collections;
+
+// int -> char hash map, e.g. studentId -> grade, stored as parallel int[] and
+// char[] arrays. Resizing is incremental, as in IntObjectMap.
+public class IntCharMap extends IntHashTable {
+    private char[] values;
+    private char[] oldValues;
+
+    public IntCharMap() {
+        this(16);
+    }
+
+    public IntCharMap(int expectedSize) {
+        super(expectedSize);
+        allocateValues(keys.length);
+        releaseOldValues();
+    }
+
+    public char get(int key, char defaultValue) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot];
+        }
+        int oldSlot = oldSlotOf(key);
+        return oldSlot >= 0 ? oldValues[oldSlot] : defaultValue;
+    }
+
+    // Returns the previous value, or defaultValue if the key was absent
+    public char put(int key, char value, char defaultValue) {
+        migrateStep();
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            char previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        char previous = defaultValue;
+        int oldSlot = oldSlotOf(key);
+        if (oldSlot >= 0) {
+            previous = oldValues[oldSlot];
+            retireOld(oldSlot);
+        } else {
+            size++;
+        }
+        // insert() may grow the table and swap the values array, so call it first
+        int newSlot = insert(key);
+        values[newSlot] = value;
+        return previous;
+    }
+
+    public void put(int key, char value) {
+        put(key, value, '\0');
+    }
+
+    // Returns the removed value, or defaultValue if the key was absent
+    public char remove(int key, char defaultValue) {
+        migrateStep();
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            char previous = values[slot];
+            removeAt(slot);
+            size--;
+            return previous;
+        }
+        int oldSlot = oldSlotOf(key);
+        if (oldSlot >= 0) {
+            char previous = oldValues[oldSlot];
+            retireOld(oldSlot);
+            size--;
+            return previous;
+        }
+        return defaultValue;
+    }
+
+    public void clear() {
+        clearTables();
+    }
+
+    public void forEach(IntCharConsumer action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (states[slot] == FULL) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+        if (oldKeys != null) {
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldStates[slot] == FULL) {
+                    action.accept(oldKeys[slot], oldValues[slot]);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface IntCharConsumer {
+        void accept(int key, char value);
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        oldValues = values;
+        values = new char[capacity];
+    }
+
+    @Override
+    void migrateValue(int oldSlot, int slot) {
+        values[slot] = oldValues[oldSlot];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+    }
+
+    @Override
+    void clearOldValue(int oldSlot) {
+    }
+
+    @Override
+    void releaseOldValues() {
+        oldValues = null;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.oop.collections;
+
+// Key half of an open-addressing, linear-probing hash table with int keys.
+// Subclasses own the parallel value arrays and move values when asked.
+//
+// Growing never rehashes everything at once. The full table becomes the "old"
+// table, an empty one twice its size becomes current, and every later
+// operation migrates a few old slots. Until migration finishes, lookups check
+// the current table first and then the old one. Old slots are never reused:
+// once an entry has moved, its old slot is marked MOVED.
+abstract class IntHashTable {
+    static final byte EMPTY = 0;
+    static final byte FULL = 1;
+    static final byte MOVED = 2;
+
+    private static final double LOAD_FACTOR = 0.5;
+    private static final int MIGRATION_STEP = 16;
+
+    int[] keys;
+    byte[] states;
+    int mask;
+    private int used;
+    private int resizeAt;
+
+    int[] oldKeys;
+    byte[] oldStates;
+    private int oldMask;
+    private int migrationCursor;
+
+    int size;
+
+    // Subclass constructors must follow up with allocateValues(keys.length)
+    IntHashTable(int expectedSize) {
+        allocate(IntIntMap.tableSizeFor(expectedSize));
+    }
+
+    // Values for a new current table; the subclass keeps its previous array as the old one
+    abstract void allocateValues(int capacity);
+
+    // Old table value at oldSlot is now stored at slot in the current table
+    abstract void migrateValue(int oldSlot, int slot);
+
+    // Value moved within the current table during backward-shift deletion
+    abstract void moveValue(int from, int to);
+
+    abstract void clearValue(int slot);
+
+    abstract void clearOldValue(int oldSlot);
+
+    abstract void releaseOldValues();
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return slotOf(key) >= 0 || oldSlotOf(key) >= 0;
+    }
+
+    // True while a resize is still being migrated in the background
+    public boolean isResizing() {
+        return oldKeys != null;
+    }
+
+    int slotOf(int key) {
+        return find(keys, states, mask, key);
+    }
+
+    int oldSlotOf(int key) {
+        return oldKeys == null ? -1 : find(oldKeys, oldStates, oldMask, key);
+    }
+
+    // Marks an old entry as moved after its value was taken over by the caller
+    void retireOld(int oldSlot) {
+        oldStates[oldSlot] = MOVED;
+        clearOldValue(oldSlot);
+    }
+
+    // Places a key known to be absent into the current table and returns its slot
+    int insert(int key) {
+        if (used >= resizeAt) {
+            grow();
+        }
+        int slot = place(key);
+        used++;
+        return slot;
+    }
+
+    // Backward-shift deletion, so the current table never holds tombstones
+    void removeAt(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (states[slot] == EMPTY) {
+                break;
+            }
+            int home = IntIntMap.mix(keys[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                moveValue(slot, gap);
+                gap = slot;
+            }
+        }
+        states[gap] = EMPTY;
+        clearValue(gap);
+        used--;
+    }
+
+    // Called at the start of every mutating operation
+    void migrateStep() {
+        if (oldKeys == null) {
+            return;
+        }
+        int end = Math.min(oldKeys.length, migrationCursor + MIGRATION_STEP);
+        for (; migrationCursor < end; migrationCursor++) {
+            if (oldStates[migrationCursor] == FULL) {
+                int slot = place(oldKeys[migrationCursor]);
+                used++;
+                migrateValue(migrationCursor, slot);
+                retireOld(migrationCursor);
+            }
+        }
+        if (migrationCursor == oldKeys.length) {
+            oldKeys = null;
+            oldStates = null;
+            releaseOldValues();
+        }
+    }
+
+    void clearTables() {
+        allocate(keys.length);
+        allocateValues(keys.length);
+        oldKeys = null;
+        oldStates = null;
+        releaseOldValues();
+        size = 0;
+    }
+
+    private void grow() {
+        // Normally the previous migration finished long ago; if not, finish it now
+        while (oldKeys != null) {
+            migrateStep();
+        }
+        oldKeys = keys;
+        oldStates = states;
+        oldMask = mask;
+        migrationCursor = 0;
+        allocate(keys.length * 2);
+        allocateValues(keys.length);
+        used = 0;
+        migrateStep();
+    }
+
+    private int place(int key) {
+        int slot = IntIntMap.mix(key) & mask;
+        while (states[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        states[slot] = FULL;
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        states = new byte[capacity];
+        mask = capacity - 1;
+        used = 0;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // MOVED slots keep probe chains intact, so probing only stops at EMPTY
+    private static int find(int[] keys, byte[] states, int mask, int key) {
+        int slot = IntIntMap.mix(key) & mask;
+        while (states[slot] != EMPTY) {
+            if (states[slot] == FULL && keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.oop.collections;
+
+// int -> V hash map, e.g. studentId -> Student, without boxing the keys.
+// Resizing is spread over later operations (see IntHashTable), and forEach
+// walks the arrays directly without creating iterators or entry objects.
+public class IntObjectMap<V> extends IntHashTable {
+    private Object[] values;
+    private Object[] oldValues;
+
+    public IntObjectMap() {
+        this(16);
+    }
+
+    public IntObjectMap(int expectedSize) {
+        super(expectedSize);
+        allocateValues(keys.length);
+        releaseOldValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        int oldSlot = oldSlotOf(key);
+        return oldSlot >= 0 ? (V) oldValues[oldSlot] : null;
+    }
+
+    // Returns the previous value, or null if the key was absent
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        migrateStep();
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        V previous = null;
+        int oldSlot = oldSlotOf(key);
+        if (oldSlot >= 0) {
+            previous = (V) oldValues[oldSlot];
+            retireOld(oldSlot);
+        } else {
+            size++;
+        }
+        // insert() may grow the table and swap the values array, so call it first
+        int newSlot = insert(key);
+        values[newSlot] = value;
+        return previous;
+    }
+
+    // Returns the removed value, or null if the key was absent
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        migrateStep();
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            removeAt(slot);
+            size--;
+            return previous;
+        }
+        int oldSlot = oldSlotOf(key);
+        if (oldSlot >= 0) {
+            V previous = (V) oldValues[oldSlot];
+            retireOld(oldSlot);
+            size--;
+            return previous;
+        }
+        return null;
+    }
+
+    public void clear() {
+        clearTables();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super V> action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (states[slot] == FULL) {
+                action.accept(keys[slot], (V) values[slot]);
+            }
+        }
+        if (oldKeys != null) {
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldStates[slot] == FULL) {
+                    action.accept(oldKeys[slot], (V) oldValues[slot]);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        oldValues = values;
+        values = new Object[capacity];
+    }
+
+    @Override
+    void migrateValue(int oldSlot, int slot) {
+        values[slot] = oldValues[oldSlot];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    void clearOldValue(int oldSlot) {
+        oldValues[oldSlot] = null;
+    }
+
+    @Override
+    void releaseOldValues() {
+        oldValues = null;
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.oop.collections;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Deduplicating string storage. Each distinct string is stored once in a byte
+// arena (one byte per char when every char fits in Latin-1, otherwise two)
+// and identified by an int handle that stays valid for the life of the pool.
+// Classes holding many repeated strings can keep the 4-byte handle instead of
+// a String reference, and call get() when they need the String again.
+//
+// Lookups hash the CharSequence directly and compare it against the arena in
+// place, so finding an existing string allocates nothing. Interning is
+// serialized; get() and contentEquals() are lock-free. Entries are never
+// removed, so a pool suits bounded vocabularies such as first names.
+public class StringPool {
+    public static final int NULL = -1;
+
+    private static final int MAX_PAGE_SIZE = 1 << 16;
+    private static final int ENTRY_FIELDS = 4; // page, offset, length << 1 | coder, hash
+    private static final int ENTRY_PAGE_BITS = 10;
+    private static final int MAX_ENTRY_PAGE_LENGTH = (1 << ENTRY_PAGE_BITS) * ENTRY_FIELDS;
+    private static final byte LATIN1 = 0;
+    private static final byte UTF16 = 1;
+
+    // Both directories are replaced, never mutated in place, after a page is added
+    // or grown; size is written last, so a reader that sees a handle below size
+    // also sees that entry's bytes
+    private volatile byte[][] pages = {new byte[256]};
+    private volatile int[][] entryPages = {new int[16 * ENTRY_FIELDS]};
+    private volatile int size;
+
+    // Writer state, guarded by this
+    private int currentPage;
+    private int pageUsed;
+    private long arenaBytes;
+    private int[] tableHandles = newTable(16);
+    private int[] tableHashes = new int[16];
+
+    // Returns the handle for s, adding it if absent; null maps to NULL
+    public synchronized int intern(CharSequence s) {
+        if (s == null) {
+            return NULL;
+        }
+        int hash = hash(s);
+        int mask = tableHandles.length - 1;
+        int slot = IntIntMap.mix(hash) & mask;
+        while (tableHandles[slot] != NULL) {
+            if (tableHashes[slot] == hash && contentEquals(tableHandles[slot], s)) {
+                return tableHandles[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        int handle = append(s, hash);
+        tableHandles[slot] = handle;
+        tableHashes[slot] = hash;
+        if (handle * 2 >= tableHandles.length) {
+            rehash(tableHandles.length * 2);
+        }
+        return handle;
+    }
+
+    // Handle of an already interned string, or NULL
+    public synchronized int find(CharSequence s) {
+        if (s == null) {
+            return NULL;
+        }
+        int hash = hash(s);
+        int mask = tableHandles.length - 1;
+        for (int slot = IntIntMap.mix(hash) & mask; tableHandles[slot] != NULL; slot = (slot + 1) & mask) {
+            if (tableHashes[slot] == hash && contentEquals(tableHandles[slot], s)) {
+                return tableHandles[slot];
+            }
+        }
+        return NULL;
+    }
+
+    public String get(int handle) {
+        if (handle == NULL) {
+            return null;
+        }
+        int[] entry = entryPage(handle);
+        int base = entryBase(handle);
+        byte[] page = pages[entry[base]];
+        int offset = entry[base + 1];
+        int length = entry[base + 2] >>> 1;
+        return (entry[base + 2] & 1) == LATIN1
+                ? new String(page, offset, length, StandardCharsets.ISO_8859_1)
+                : new String(page, offset, length * 2, StandardCharsets.UTF_16BE);
+    }
+
+    // Compares without materializing the pooled String
+    public boolean contentEquals(int handle, CharSequence s) {
+        if (handle == NULL || s == null) {
+            return handle == NULL && s == null;
+        }
+        int[] entry = entryPage(handle);
+        int base = entryBase(handle);
+        int length = entry[base + 2] >>> 1;
+        if (length != s.length()) {
+            return false;
+        }
+        byte[] page = pages[entry[base]];
+        int offset = entry[base + 1];
+        if ((entry[base + 2] & 1) == LATIN1) {
+            for (int i = 0; i < length; i++) {
+                if (s.charAt(i) != (char) (page[offset + i] & 0xFF)) {
+                    return false;
+                }
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                char c = (char) ((page[offset + 2 * i] & 0xFF) << 8 | page[offset + 2 * i + 1] & 0xFF);
+                if (s.charAt(i) != c) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Number of distinct strings
+    public int size() {
+        return size;
+    }
+
+    // Bytes of string content stored in the arena
+    public synchronized long arenaBytes() {
+        return arenaBytes;
+    }
+
+    private int[] entryPage(int handle) {
+        if (handle < 0 || handle >= size) {
+            throw new IndexOutOfBoundsException("Unknown handle " + handle + " for size " + size);
+        }
+        return entryPages[handle >>> ENTRY_PAGE_BITS];
+    }
+
+    private static int entryBase(int handle) {
+        return (handle & ((1 << ENTRY_PAGE_BITS) - 1)) * ENTRY_FIELDS;
+    }
+
+    // Same value as String.hashCode(), which Strings cache
+    private static int hash(CharSequence s) {
+        if (s instanceof String string) {
+            return string.hashCode();
+        }
+        int h = 0;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h;
+    }
+
+    private int append(CharSequence s, int hash) {
+        int length = s.length();
+        byte coder = LATIN1;
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(i) > 0xFF) {
+                coder = UTF16;
+                break;
+            }
+        }
+        int bytes = coder == LATIN1 ? length : length * 2;
+        int pageIndex = reserve(bytes);
+        byte[] page = pages[pageIndex];
+        int offset = pageIndex == currentPage ? pageUsed : 0;
+        if (coder == LATIN1) {
+            for (int i = 0; i < length; i++) {
+                page[offset + i] = (byte) s.charAt(i);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                char c = s.charAt(i);
+                page[offset + 2 * i] = (byte) (c >>> 8);
+                page[offset + 2 * i + 1] = (byte) c;
+            }
+        }
+        if (pageIndex == currentPage) {
+            pageUsed += bytes;
+        }
+        arenaBytes += bytes;
+
+        int handle = size;
+        int[] entry = reserveEntry(handle);
+        int base = entryBase(handle);
+        entry[base] = pageIndex;
+        entry[base + 1] = offset;
+        entry[base + 2] = length << 1 | coder;
+        entry[base + 3] = hash;
+        size = handle + 1; // publishes the entry
+        return handle;
+    }
+
+    // Returns the page to write the bytes to. The current page doubles until it
+    // reaches MAX_PAGE_SIZE; after that a new page is started. Strings too long
+    // for any page get a page of their own.
+    private int reserve(int bytes) {
+        byte[][] directory = pages;
+        byte[] page = directory[currentPage];
+        if (pageUsed + bytes <= page.length) {
+            return currentPage;
+        }
+        if (pageUsed + bytes <= MAX_PAGE_SIZE) {
+            int grown = page.length;
+            while (grown < pageUsed + bytes) {
+                grown *= 2;
+            }
+            byte[][] updated = directory.clone();
+            updated[currentPage] = Arrays.copyOf(page, Math.min(grown, MAX_PAGE_SIZE));
+            pages = updated;
+            return currentPage;
+        }
+        byte[][] updated = Arrays.copyOf(directory, directory.length + 1);
+        if (bytes > MAX_PAGE_SIZE) {
+            // Oversized strings get their own page; keep filling the current one
+            updated[directory.length] = new byte[bytes];
+            pages = updated;
+            return directory.length;
+        }
+        updated[directory.length] = new byte[MAX_PAGE_SIZE];
+        pages = updated;
+        currentPage = directory.length;
+        pageUsed = 0;
+        return currentPage;
+    }
+
+    private int[] reserveEntry(int handle) {
+        int[][] directory = entryPages;
+        int pageIndex = handle >>> ENTRY_PAGE_BITS;
+        int needed = entryBase(handle) + ENTRY_FIELDS;
+        if (pageIndex == directory.length) {
+            int[][] updated = Arrays.copyOf(directory, directory.length + 1);
+            updated[pageIndex] = new int[MAX_ENTRY_PAGE_LENGTH];
+            entryPages = updated;
+            return updated[pageIndex];
+        }
+        int[] page = directory[pageIndex];
+        if (needed > page.length) {
+            int[][] updated = directory.clone();
+            updated[pageIndex] = Arrays.copyOf(page, Math.min(page.length * 2, MAX_ENTRY_PAGE_LENGTH));
+            entryPages = updated;
+            return updated[pageIndex];
+        }
+        return page;
+    }
+
+    private void rehash(int capacity) {
+        int[] handles = newTable(capacity);
+        int[] hashes = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < tableHandles.length; i++) {
+            if (tableHandles[i] != NULL) {
+                int slot = IntIntMap.mix(tableHashes[i]) & mask;
+                while (handles[slot] != NULL) {
+                    slot = (slot + 1) & mask;
+                }
+                handles[slot] = tableHandles[i];
+                hashes[slot] = tableHashes[i];
+            }
+        }
+        tableHandles = handles;
+        tableHashes = hashes;
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, NULL);
+        return table;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.oop.collections;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Canonicalizes equal immutable values: intern() returns one shared instance
+// per equals() class, like String.intern() for any value type. The table holds
+// its canonical instances weakly, so one that nothing else references is
+// garbage collected and its entry dropped on a later call.
+public class WeakInterner<T> {
+    private final ConcurrentHashMap<Key, WeakKey<T>> table = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> cleared = new ReferenceQueue<>();
+
+    public T intern(T sample) {
+        expungeCleared();
+        LookupKey probe = new LookupKey(sample);
+        while (true) {
+            WeakKey<T> existing = table.get(probe);
+            if (existing == null) {
+                WeakKey<T> created = new WeakKey<>(sample, cleared);
+                existing = table.putIfAbsent(created, created);
+                if (existing == null) {
+                    return sample;
+                }
+            }
+            T canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            // Collected but not yet expunged; drop it and try again
+            table.remove(existing, existing);
+        }
+    }
+
+    // Live entries plus any not yet expunged
+    public int size() {
+        expungeCleared();
+        return table.size();
+    }
+
+    private void expungeCleared() {
+        Object ref;
+        while ((ref = cleared.poll()) != null) {
+            WeakKey<?> key = (WeakKey<?>) ref;
+            table.remove(key, key);
+        }
+    }
+
+    // Stored and lookup keys compare equal when their referents are equal
+    private interface Key {
+        Object referent();
+    }
+
+    private static boolean keysEqual(Key self, Object other) {
+        if (self == other) {
+            return true;
+        }
+        if (!(other instanceof Key key)) {
+            return false;
+        }
+        Object referent = self.referent();
+        return referent != null && referent.equals(key.referent());
+    }
+
+    private static final class WeakKey<T> extends WeakReference<T> implements Key {
+        private final int hash;
+
+        WeakKey(T referent, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.hash = referent.hashCode();
+        }
+
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return keysEqual(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private record LookupKey(Object referent) implements Key {
+        @Override
+        public boolean equals(Object o) {
+            return keysEqual(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return referent.hashCode();
+        }
+    }
+}
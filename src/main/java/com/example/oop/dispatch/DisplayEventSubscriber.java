@@ -0,0 +1,116 @@
+package com.example.oop.dispatch;
+
+import com.example.oop.ParentClass;
+import com.example.oop.PolymorphismParent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Consumes EventPublisher batches and calls the demo methods on each event:
+// display() on PolymorphismParent and its subclasses, and every ParentClass
+// family method (InheritanceDispatch.callAll). Other event types are counted
+// as unhandled unless a handler is registered for them.
+//
+// Keeps at most window batches requested: once half of them have been handled,
+// it tops the request back up, so a slow handler holds the publisher back
+// instead of being flooded.
+public class DisplayEventSubscriber implements Flow.Subscriber<EventBatch<Object>> {
+    private final int window;
+    private final TypeDispatcher<Object, Integer> handlers = new TypeDispatcher<Object, Integer>(event -> 0)
+            .register(PolymorphismParent.class, DisplayEventSubscriber::display)
+            .register(ParentClass.class, InheritanceDispatch::callAll);
+    private Flow.Subscription subscription;
+    private int outstanding;
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder unhandled = new LongAdder();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile Throwable error;
+
+    public DisplayEventSubscriber(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+        this.window = window;
+    }
+
+    // Register further handlers before subscribing
+    public TypeDispatcher<Object, Integer> handlers() {
+        return handlers;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        outstanding = window;
+        subscription.request(window);
+    }
+
+    @Override
+    public void onNext(EventBatch<Object> batch) {
+        // One handler lookup for the whole run of same-class events
+        Function<? super Object, ? extends Integer> handler = handlers.handlerFor(batch.type());
+        int called = 0;
+        for (Object event : batch.events()) {
+            int count = handler.apply(event);
+            if (count == 0) {
+                unhandled.increment();
+            }
+            called += count;
+        }
+        calls.add(called);
+        events.add(batch.events().size());
+        batches.increment();
+        if (--outstanding <= window / 2) {
+            subscription.request(window - outstanding);
+            outstanding = window;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        finished.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        finished.countDown();
+    }
+
+    // True once the stream completed or failed within the timeout
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    public Throwable error() {
+        return error;
+    }
+
+    public long eventCount() {
+        return events.sum();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    // Demo methods called, as counted by InheritanceDispatch.callAll for ParentClass events
+    public long callCount() {
+        return calls.sum();
+    }
+
+    public long unhandledCount() {
+        return unhandled.sum();
+    }
+
+    private static int display(PolymorphismParent target) {
+        target.display();
+        return 1;
+    }
+}
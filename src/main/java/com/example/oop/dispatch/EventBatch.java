@@ -0,0 +1,7 @@
+package com.example.oop.dispatch;
+
+import java.util.List;
+
+// Consecutive events that all have exactly the given runtime class
+public record EventBatch<T>(Class<?> type, List<T> events) {
+}
@@ -0,0 +1,313 @@
+package com.example.oop.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Flow publisher for a feed of events whose burst rate can outrun the
+// handlers. Each subscriber gets its own bounded buffer; when it is full, the
+// OverflowPolicy decides whether offer() drops the new event, evicts the oldest
+// one or waits.
+//
+// Delivery is driven by demand: one request(n) unit is one EventBatch, a run
+// of up to maxBatch consecutive buffered events of the same class, so the
+// subscriber can look up its handler once per run. Signals to a subscriber
+// (onSubscribe included) all come from one drain task at a time on the
+// executor. With BLOCK, offer() waits for that task, so it must not run on
+// the offering thread. If the executor rejects the task, the drain runs once on
+// the calling thread to fail the subscription with the rejection.
+public class EventPublisher<T> implements Flow.Publisher<EventBatch<T>>, AutoCloseable {
+    private final Executor executor;
+    private final int capacity;
+    private final int maxBatch;
+    private final OverflowPolicy policy;
+    private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private volatile boolean closed;
+
+    public EventPublisher(Executor executor, int capacity, int maxBatch, OverflowPolicy policy) {
+        if (capacity < 1 || maxBatch < 1) {
+            throw new IllegalArgumentException("capacity and maxBatch must be positive");
+        }
+        this.executor = executor;
+        this.capacity = capacity;
+        this.maxBatch = maxBatch;
+        this.policy = Objects.requireNonNull(policy);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super EventBatch<T>> subscriber) {
+        BufferedSubscription subscription = new BufferedSubscription(Objects.requireNonNull(subscriber));
+        subscriptions.add(subscription);
+        if (closed) {
+            subscription.complete();
+        }
+        subscription.schedule(); // delivers onSubscribe
+    }
+
+    // Buffers the event for every current subscriber. Returns false if the
+    // DROP policy discarded it for at least one of them.
+    public boolean offer(T event) {
+        Objects.requireNonNull(event);
+        if (closed) {
+            throw new IllegalStateException("Publisher is closed");
+        }
+        boolean accepted = true;
+        for (BufferedSubscription subscription : subscriptions) {
+            accepted &= subscription.offer(event);
+        }
+        return accepted;
+    }
+
+    // Events discarded by DROP or evicted by LATEST, over all subscribers
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    // Most events any one subscriber buffer has held at once
+    public int maxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    // Subscribers receive onComplete once they have drained their buffers
+    @Override
+    public void close() {
+        closed = true;
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.complete();
+            subscription.schedule();
+        }
+    }
+
+    private final class BufferedSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super EventBatch<T>> subscriber;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+        private final Object[] buffer = new Object[capacity]; // ring, guarded by lock
+        private int head; // guarded by lock
+        private int count; // guarded by lock
+        private long demand; // guarded by lock
+        private boolean completed; // guarded by lock
+        private boolean cancelled; // guarded by lock
+        private Throwable pendingError; // guarded by lock
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private boolean subscribed; // drain task only
+        private boolean terminated; // drain task only
+
+        BufferedSubscription(Flow.Subscriber<? super EventBatch<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        boolean offer(T event) {
+            lock.lock();
+            try {
+                if (count == capacity && !cancelled) {
+                    switch (policy) {
+                        case DROP -> {
+                            dropped.increment();
+                            return false;
+                        }
+                        case LATEST -> {
+                            buffer[head] = null;
+                            head = (head + 1) % capacity;
+                            count--;
+                            dropped.increment();
+                        }
+                        case BLOCK -> {
+                            while (count == capacity && !cancelled) {
+                                notFull.awaitUninterruptibly();
+                            }
+                        }
+                    }
+                }
+                if (cancelled) {
+                    return true; // nobody is listening any more, so nothing was dropped
+                }
+                buffer[(head + count) % capacity] = event;
+                count++;
+                maxQueueDepth.accumulateAndGet(count, Math::max);
+            } finally {
+                lock.unlock();
+            }
+            schedule();
+            return true;
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (cancelled) {
+                    return;
+                }
+                if (n <= 0) {
+                    pendingError = new IllegalArgumentException("Requested " + n + " batches; must be positive");
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            } finally {
+                lock.unlock();
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                clearBuffer();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            subscriptions.remove(this);
+        }
+
+        void complete() {
+            lock.lock();
+            try {
+                completed = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Runs the drain task unless it is already running; a running task
+        // notices the extra count and loops once more
+        void schedule() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // No drain task is running or queued, so this thread may be the
+                    // one that signals the error; run() resets the counter
+                    lock.lock();
+                    try {
+                        if (pendingError == null) {
+                            pendingError = e;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    run();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (terminated) {
+                return;
+            }
+            if (!subscribed) {
+                subscribed = true;
+                try {
+                    subscriber.onSubscribe(this);
+                } catch (Throwable e) {
+                    cancel();
+                    fail(e);
+                    return;
+                }
+            }
+            while (true) {
+                EventBatch<T> batch;
+                Throwable error;
+                boolean done = false;
+                lock.lock();
+                try {
+                    if (cancelled && pendingError == null) {
+                        terminated = true;
+                        return;
+                    }
+                    error = pendingError;
+                    if (error != null) {
+                        cancelled = true;
+                        clearBuffer();
+                        notFull.signalAll();
+                        batch = null;
+                    } else if (count > 0 && demand > 0) {
+                        batch = takeBatch();
+                        if (demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                        notFull.signalAll();
+                    } else if (count == 0 && completed) {
+                        batch = null;
+                        done = true;
+                    } else {
+                        return; // wait for more events or more demand
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (error != null) {
+                    fail(error);
+                    return;
+                }
+                if (done) {
+                    terminated = true;
+                    subscriptions.remove(this);
+                    subscriber.onComplete();
+                    return;
+                }
+                try {
+                    subscriber.onNext(batch);
+                } catch (Throwable e) {
+                    cancel();
+                    fail(e);
+                    return;
+                }
+            }
+        }
+
+        private void fail(Throwable error) {
+            terminated = true;
+            subscriptions.remove(this);
+            subscriber.onError(error);
+        }
+
+        // Caller holds the lock and has checked count > 0
+        @SuppressWarnings("unchecked")
+        private EventBatch<T> takeBatch() {
+            Class<?> type = buffer[head].getClass();
+            List<T> events = new ArrayList<>(Math.min(count, maxBatch));
+            while (count > 0 && events.size() < maxBatch && buffer[head].getClass() == type) {
+                events.add((T) buffer[head]);
+                buffer[head] = null;
+                head = (head + 1) % capacity;
+                count--;
+            }
+            return new EventBatch<>(type, events);
+        }
+
+        private void clearBuffer() {
+            while (count > 0) {
+                buffer[head] = null;
+                head = (head + 1) % capacity;
+                count--;
+            }
+        }
+    }
+}
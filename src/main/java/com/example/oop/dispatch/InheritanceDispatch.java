@@ -0,0 +1,72 @@
+package com.example.oop.dispatch;
+
+import com.example.oop.ChildClass;
+import com.example.oop.GrandChildClass;
+import com.example.oop.ParentClass;
+import com.example.oop.inheritance.Car;
+import com.example.oop.inheritance.Vehicle;
+
+// Type-dependent operations on the ParentClass and Vehicle hierarchies, each
+// available two ways: a pattern-matching switch for call sites that know the
+// hierarchy at compile time (the fast path), and a TypeDispatcher that other
+// code can extend with handlers for its own subclasses.
+public final class InheritanceDispatch {
+    private InheritanceDispatch() {
+    }
+
+    // Calls every method the target's class adds along the hierarchy and
+    // returns how many were called
+    public static int callAll(ParentClass target) {
+        return switch (target) {
+            case GrandChildClass grandChild -> callGrandChild(grandChild);
+            case ChildClass child -> callChild(child);
+            default -> callParent(target);
+        };
+    }
+
+    public static String describe(Vehicle vehicle) {
+        return switch (vehicle) {
+            case Car car -> describeCar(car);
+            default -> describeVehicle(vehicle);
+        };
+    }
+
+    // Same behaviour as callAll, open to further registrations
+    public static TypeDispatcher<ParentClass, Integer> callAllDispatcher() {
+        return new TypeDispatcher<ParentClass, Integer>(InheritanceDispatch::callParent)
+                .register(ChildClass.class, InheritanceDispatch::callChild)
+                .register(GrandChildClass.class, InheritanceDispatch::callGrandChild);
+    }
+
+    // Same behaviour as describe, open to further registrations
+    public static TypeDispatcher<Vehicle, String> describeDispatcher() {
+        return new TypeDispatcher<Vehicle, String>(InheritanceDispatch::describeVehicle)
+                .register(Car.class, InheritanceDispatch::describeCar);
+    }
+
+    private static int callParent(ParentClass target) {
+        target.parentMethod();
+        return 1;
+    }
+
+    private static int callChild(ChildClass child) {
+        child.parentMethod();
+        child.childMethod();
+        return 2;
+    }
+
+    private static int callGrandChild(GrandChildClass grandChild) {
+        grandChild.parentMethod();
+        grandChild.childMethod();
+        grandChild.grandChildMethod();
+        return 3;
+    }
+
+    private static String describeVehicle(Vehicle vehicle) {
+        return vehicle.getBrand() + " vehicle";
+    }
+
+    private static String describeCar(Car car) {
+        return car.getBrand() + " car with " + car.getNumberOfDoors() + " doors";
+    }
+}
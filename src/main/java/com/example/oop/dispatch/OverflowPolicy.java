@@ -0,0 +1,11 @@
+package com.example.oop.dispatch;
+
+// What EventPublisher.offer() does when a subscriber's buffer is full
+public enum OverflowPolicy {
+    // Discard the new event
+    DROP,
+    // Discard the oldest buffered event to make room for the new one
+    LATEST,
+    // Wait until the subscriber has taken events out of the buffer
+    BLOCK
+}
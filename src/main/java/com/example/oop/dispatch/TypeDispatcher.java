@@ -0,0 +1,81 @@
+package com.example.oop.dispatch;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// Picks a handler by the runtime class of the target, replacing instanceof
+// chains. Handlers are registered per class; the most specific one for a
+// receiver class is resolved once (superclasses nearest first, then interfaces)
+// and cached in a ClassValue, so later dispatches are a single lookup however
+// deep the hierarchy is.
+public final class TypeDispatcher<T, R> {
+    private final Function<? super T, ? extends R> fallback;
+    private Map<Class<?>, Function<? super T, ? extends R>> handlers = Map.of(); // guarded by this
+    private volatile ClassValue<Function<? super T, ? extends R>> resolved;
+
+    // fallback handles targets for which no registered class matches
+    public TypeDispatcher(Function<? super T, ? extends R> fallback) {
+        this.fallback = fallback;
+        this.resolved = newCache(handlers);
+    }
+
+    // Registering starts a fresh cache, so do it up front rather than between dispatches
+    @SuppressWarnings("unchecked")
+    public synchronized <S extends T> TypeDispatcher<T, R> register(Class<S> type, Function<? super S, ? extends R> handler) {
+        Map<Class<?>, Function<? super T, ? extends R>> updated = new HashMap<>(handlers);
+        // Only ever applied to instances of type, so the widened parameter type is safe
+        updated.put(type, (Function<? super T, ? extends R>) (Function<?, ?>) handler);
+        handlers = Map.copyOf(updated);
+        resolved = newCache(handlers);
+        return this;
+    }
+
+    public R dispatch(T target) {
+        return resolved.get(target.getClass()).apply(target);
+    }
+
+    public Function<? super T, ? extends R> handlerFor(Class<? extends T> type) {
+        return resolved.get(type);
+    }
+
+    private ClassValue<Function<? super T, ? extends R>> newCache(Map<Class<?>, Function<? super T, ? extends R>> snapshot) {
+        return new ClassValue<>() {
+            @Override
+            protected Function<? super T, ? extends R> computeValue(Class<?> type) {
+                return resolve(snapshot, type);
+            }
+        };
+    }
+
+    private Function<? super T, ? extends R> resolve(Map<Class<?>, Function<? super T, ? extends R>> snapshot, Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            Function<? super T, ? extends R> handler = snapshot.get(c);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        // Breadth-first over interfaces; ties go to the order in the implements clause
+        ArrayDeque<Class<?>> pending = new ArrayDeque<>();
+        Set<Class<?>> seen = new HashSet<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            pending.addAll(List.of(c.getInterfaces()));
+        }
+        while (!pending.isEmpty()) {
+            Class<?> candidate = pending.poll();
+            if (!seen.add(candidate)) {
+                continue;
+            }
+            Function<? super T, ? extends R> handler = snapshot.get(candidate);
+            if (handler != null) {
+                return handler;
+            }
+            pending.addAll(List.of(candidate.getInterfaces()));
+        }
+        return fallback;
+    }
+}
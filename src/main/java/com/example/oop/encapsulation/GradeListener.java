@@ -0,0 +1,7 @@
+package com.example.oop.encapsulation;
+
+// Notified when a Student's grade is about to change; throwing keeps the old grade
+@FunctionalInterface
+public interface GradeListener {
+    void gradeChanged(Student student, char oldGrade, char newGrade);
+}
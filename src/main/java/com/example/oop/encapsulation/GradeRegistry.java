@@ -0,0 +1,205 @@
+package com.example.oop.encapsulation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+// Thread-safe grades for a fixed set of students, keyed by studentId.
+//
+// Single updates are lock-free CAS operations on a packed byte[]; they only take
+// the shared side of a striped lock. Batch updates and snapshots take the
+// exclusive side of the stripes they touch, so they are atomic with respect to
+// each other and to single updates.
+public class GradeRegistry {
+    private static final VarHandle GRADES = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final char[] GRADE_ORDER = {'A', 'B', 'C', 'D', 'F', 'N'};
+
+    private final int[] sortedIds;
+    private final byte[] grades;
+    private final StampedLock[] stripes;
+    private final int stripeMask;
+
+    public GradeRegistry(int... studentIds) {
+        this.sortedIds = studentIds.clone();
+        Arrays.sort(sortedIds);
+        for (int i = 1; i < sortedIds.length; i++) {
+            if (sortedIds[i] == sortedIds[i - 1]) {
+                throw new IllegalArgumentException("Duplicate studentId: " + sortedIds[i]);
+            }
+        }
+        this.grades = new byte[sortedIds.length];
+        Arrays.fill(grades, (byte) 'N');
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+        this.stripes = new StampedLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new StampedLock();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    // Registers every student and copies their current grade
+    public static GradeRegistry of(List<Student> students) {
+        int[] ids = new int[students.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = students.get(i).getStudentId();
+        }
+        GradeRegistry registry = new GradeRegistry(ids);
+        for (Student student : students) {
+            char grade = student.getGrade();
+            if (Student.isValidGrade(grade)) {
+                registry.setGrade(student.getStudentId(), grade);
+            }
+        }
+        return registry;
+    }
+
+    public int size() {
+        return sortedIds.length;
+    }
+
+    public boolean contains(int studentId) {
+        return Arrays.binarySearch(sortedIds, studentId) >= 0;
+    }
+
+    public char getGrade(int studentId) {
+        return (char) (byte) GRADES.getVolatile(grades, slotOf(studentId));
+    }
+
+    // Returns false (and leaves the grade unchanged) for an invalid grade
+    public boolean setGrade(int studentId, char newGrade) {
+        if (!Student.isValidGrade(newGrade)) {
+            return false;
+        }
+        int slot = slotOf(studentId);
+        StampedLock stripe = stripes[slot & stripeMask];
+        long stamp = stripe.readLock();
+        try {
+            GRADES.setVolatile(grades, slot, (byte) newGrade);
+        } finally {
+            stripe.unlockRead(stamp);
+        }
+        return true;
+    }
+
+    public boolean compareAndSetGrade(int studentId, char expected, char newGrade) {
+        if (!Student.isValidGrade(newGrade)) {
+            return false;
+        }
+        int slot = slotOf(studentId);
+        StampedLock stripe = stripes[slot & stripeMask];
+        long stamp = stripe.readLock();
+        try {
+            return GRADES.compareAndSet(grades, slot, (byte) expected, (byte) newGrade);
+        } finally {
+            stripe.unlockRead(stamp);
+        }
+    }
+
+    // Applies all grades or none: every id and grade is validated before any
+    // stripe is locked, and no snapshot can observe a partially applied batch
+    public void applyGrades(int[] studentIds, char[] newGrades) {
+        if (studentIds.length != newGrades.length) {
+            throw new IllegalArgumentException("Expected " + studentIds.length + " grades but got " + newGrades.length);
+        }
+        int[] slots = new int[studentIds.length];
+        boolean[] touched = new boolean[stripes.length];
+        for (int i = 0; i < studentIds.length; i++) {
+            if (!Student.isValidGrade(newGrades[i])) {
+                throw new IllegalArgumentException("Invalid grade '" + newGrades[i] + "' at index " + i);
+            }
+            slots[i] = slotOf(studentIds[i]);
+            touched[slots[i] & stripeMask] = true;
+        }
+
+        long[] stamps = new long[stripes.length];
+        // Always lock in ascending stripe order to avoid deadlock between batches
+        for (int s = 0; s < stripes.length; s++) {
+            if (touched[s]) {
+                stamps[s] = stripes[s].writeLock();
+            }
+        }
+        try {
+            for (int i = 0; i < slots.length; i++) {
+                GRADES.setVolatile(grades, slots[i], (byte) newGrades[i]);
+            }
+        } finally {
+            for (int s = stripes.length - 1; s >= 0; s--) {
+                if (touched[s]) {
+                    stripes[s].unlockWrite(stamps[s]);
+                }
+            }
+        }
+    }
+
+    // Point-in-time grade counts across all students
+    public Histogram histogram() {
+        long[] stamps = new long[stripes.length];
+        for (int s = 0; s < stripes.length; s++) {
+            stamps[s] = stripes[s].writeLock();
+        }
+        int[] counts = new int[GRADE_ORDER.length];
+        try {
+            for (int slot = 0; slot < grades.length; slot++) {
+                counts[indexOf((char) (byte) GRADES.getVolatile(grades, slot))]++;
+            }
+        } finally {
+            for (int s = stripes.length - 1; s >= 0; s--) {
+                stripes[s].unlockWrite(stamps[s]);
+            }
+        }
+        return new Histogram(counts);
+    }
+
+    private int slotOf(int studentId) {
+        int slot = Arrays.binarySearch(sortedIds, studentId);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown studentId: " + studentId);
+        }
+        return slot;
+    }
+
+    private static int indexOf(char grade) {
+        for (int i = 0; i < GRADE_ORDER.length; i++) {
+            if (GRADE_ORDER[i] == grade) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unexpected grade: " + grade);
+    }
+
+    public static final class Histogram {
+        private final int[] counts;
+
+        private Histogram(int[] counts) {
+            this.counts = counts;
+        }
+
+        // 'N' counts students that have not been graded yet
+        public int count(char grade) {
+            return counts[indexOf(grade)];
+        }
+
+        public int total() {
+            int total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < GRADE_ORDER.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(GRADE_ORDER[i]).append('=').append(counts[i]);
+            }
+            return sb.append('}').toString();
+        }
+    }
+}
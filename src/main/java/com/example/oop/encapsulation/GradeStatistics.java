@@ -0,0 +1,200 @@
+package com.example.oop.encapsulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Class-wide grade statistics kept up to date one grade change at a time,
+// instead of rescanning every student. Tracked students report changes through
+// their GradeListener hook.
+//
+// Counts and GPA mean/variance (Welford's algorithm, with removal for the old
+// grade) are published as an immutable Snapshot: writers take turns updating it
+// and readers just read the latest one, so reads never block writers. Top-K
+// per name prefix keeps one concurrent set per grade for each prefix.
+public class GradeStatistics implements GradeListener {
+    private static final char[] GRADES = {'A', 'B', 'C', 'D', 'F'};
+
+    private final int prefixLength;
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot(new long[GRADES.length], 0, 0, 0);
+    private final ConcurrentHashMap<String, PrefixBuckets> byPrefix = new ConcurrentHashMap<>();
+
+    public GradeStatistics() {
+        this(1);
+    }
+
+    // Students are grouped for top-K queries by the first prefixLength characters of their name
+    public GradeStatistics(int prefixLength) {
+        if (prefixLength < 0) {
+            throw new IllegalArgumentException("prefixLength must not be negative: " + prefixLength);
+        }
+        this.prefixLength = prefixLength;
+    }
+
+    // Both hold the student's lock, which setGrade() also takes, so no grade
+    // change can land between the listener update and the seeding call
+    public void track(Student student) {
+        synchronized (student) {
+            student.addGradeListener(this);
+            gradeChanged(student, 'N', student.getGrade());
+        }
+    }
+
+    public void untrack(Student student) {
+        synchronized (student) {
+            student.removeGradeListener(this);
+            gradeChanged(student, student.getGrade(), 'N');
+        }
+    }
+
+    @Override
+    public void gradeChanged(Student student, char oldGrade, char newGrade) {
+        if (oldGrade == newGrade) {
+            return;
+        }
+        PrefixBuckets buckets = byPrefix.computeIfAbsent(prefixOf(student), prefix -> new PrefixBuckets());
+        // Bucket moves stay under the lock so two changes to one student apply in order
+        synchronized (writeLock) {
+            snapshot = snapshot.remove(oldGrade).add(newGrade);
+            if (indexOf(oldGrade) >= 0) {
+                buckets.byGrade[indexOf(oldGrade)].remove(student);
+            }
+            if (indexOf(newGrade) >= 0) {
+                buckets.byGrade[indexOf(newGrade)].add(student);
+            }
+        }
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    // Up to k students whose name starts with the prefix, best grade first. The
+    // prefix must be prefixLength characters long; a shorter one only matches
+    // students whose whole name it is, since that is how they are grouped.
+    public List<Student> topK(String prefix, int k) {
+        if (prefix.length() > prefixLength) {
+            throw new IllegalArgumentException("Prefix \"" + prefix + "\" is longer than the "
+                    + prefixLength + " characters students are grouped by");
+        }
+        List<Student> result = new ArrayList<>(k);
+        PrefixBuckets buckets = byPrefix.get(prefix);
+        if (buckets == null) {
+            return result;
+        }
+        for (Set<Student> bucket : buckets.byGrade) {
+            for (Student student : bucket) {
+                if (result.size() == k) {
+                    return result;
+                }
+                result.add(student);
+            }
+        }
+        return result;
+    }
+
+    // A = 4 points down to F = 0; ungraded ('N') students are not counted
+    static int gradePoints(char grade) {
+        return switch (grade) {
+            case 'A' -> 4;
+            case 'B' -> 3;
+            case 'C' -> 2;
+            case 'D' -> 1;
+            case 'F' -> 0;
+            default -> throw new IllegalArgumentException("Not a grade: " + grade);
+        };
+    }
+
+    private String prefixOf(Student student) {
+        String name = student.getFirstName() == null ? "" : student.getFirstName();
+        return name.length() <= prefixLength ? name : name.substring(0, prefixLength);
+    }
+
+    private static int indexOf(char grade) {
+        for (int i = 0; i < GRADES.length; i++) {
+            if (GRADES[i] == grade) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class PrefixBuckets {
+        @SuppressWarnings("unchecked")
+        final Set<Student>[] byGrade = new Set[GRADES.length];
+
+        PrefixBuckets() {
+            for (int i = 0; i < byGrade.length; i++) {
+                byGrade[i] = ConcurrentHashMap.newKeySet();
+            }
+        }
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long n;
+        private final double mean;
+        private final double m2;
+
+        private Snapshot(long[] counts, long n, double mean, double m2) {
+            this.counts = counts;
+            this.n = n;
+            this.mean = mean;
+            this.m2 = m2;
+        }
+
+        public long count(char grade) {
+            int index = indexOf(grade);
+            if (index < 0) {
+                throw new IllegalArgumentException("Not a grade: " + grade);
+            }
+            return counts[index];
+        }
+
+        public long gradedStudents() {
+            return n;
+        }
+
+        public double meanGpa() {
+            return mean;
+        }
+
+        // Population variance of grade points
+        public double gpaVariance() {
+            return n == 0 ? 0 : Math.max(0, m2 / n);
+        }
+
+        private Snapshot add(char grade) {
+            int index = indexOf(grade);
+            if (index < 0) {
+                return this;
+            }
+            long[] newCounts = counts.clone();
+            newCounts[index]++;
+            double x = gradePoints(grade);
+            long newN = n + 1;
+            double delta = x - mean;
+            double newMean = mean + delta / newN;
+            return new Snapshot(newCounts, newN, newMean, m2 + delta * (x - newMean));
+        }
+
+        // Welford's update run backwards
+        private Snapshot remove(char grade) {
+            int index = indexOf(grade);
+            if (index < 0) {
+                return this;
+            }
+            long[] newCounts = counts.clone();
+            newCounts[index]--;
+            if (n == 1) {
+                return new Snapshot(newCounts, 0, 0, 0);
+            }
+            double x = gradePoints(grade);
+            long newN = n - 1;
+            double newMean = (n * mean - x) / newN;
+            return new Snapshot(newCounts, newN, newMean, m2 - (x - mean) * (x - newMean));
+        }
+    }
+}
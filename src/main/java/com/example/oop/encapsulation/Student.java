@@ -1,13 +1,40 @@
 package com.example.oop.encapsulation;
 
+import com.example.oop.codec.GenerateCodec;
+import com.example.oop.collections.StringPool;
+import com.example.oop.instrumentation.Instrumentation;
+import com.example.oop.output.Output;
+import java.util.Arrays;
+
+@GenerateCodec
 public class Student {
+    private static final GradeListener[] NO_LISTENERS = new GradeListener[0];
+
     private final int studentId;
     private final String firstName;
-    private char grade;
+    // Set instead of firstName when the caller pools names
+    private final StringPool firstNames;
+    private final int firstNameHandle;
+    private volatile char grade; // written under this student's lock
+    // Copied on change, so setGrade() can walk it without locking
+    private volatile GradeListener[] gradeListeners = NO_LISTENERS;
 
     public Student(int studentId, String firstName) {
         this.studentId = studentId;
         this.firstName = firstName;
+        this.firstNames = null;
+        this.firstNameHandle = StringPool.NULL;
+        this.grade = 'N';
+    }
+
+    // For callers holding many students with repeated names: the name stays in
+    // the caller's pool and the student keeps its handle. The pool's lifetime
+    // and locking are the caller's business.
+    public Student(int studentId, StringPool firstNames, int firstNameHandle) {
+        this.studentId = studentId;
+        this.firstName = null;
+        this.firstNames = firstNames;
+        this.firstNameHandle = firstNameHandle;
         this.grade = 'N';
     }
 
@@ -16,20 +43,76 @@ public class Student {
     }
 
     public String getFirstName() {
-        return firstName;
+        return firstNames == null ? firstName : firstNames.get(firstNameHandle);
     }
 
     public char getGrade() {
         return grade;
     }
 
-    public void setGrade(char newGrade) {
-        if (newGrade == 'A' || newGrade == 'B' ||
-                newGrade == 'C' || newGrade == 'D' ||
-                newGrade == 'F') {
+    // Synchronized so the old grade, the listener calls and the assignment happen
+    // as one step per student; otherwise two changes could reach a log in a
+    // different order than they were applied.
+    public synchronized void setGrade(char newGrade) {
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        char oldGrade = this.grade;
+        boolean accepted = isValidGrade(newGrade);
+        if (accepted) {
+            if (oldGrade != newGrade) {
+                notifyListeners(oldGrade, newGrade);
+            }
             this.grade = newGrade;
         } else {
-            System.out.println("Invalid grade.");
+            Output.println("Invalid grade.");
+        }
+        if (Instrumentation.ENABLED) {
+            Instrumentation.setGrade(studentId, oldGrade, newGrade, accepted, start);
         }
     }
+
+    // Hooks for code that keeps derived data up to date, such as statistics or a log
+    public synchronized void addGradeListener(GradeListener listener) {
+        GradeListener[] listeners = Arrays.copyOf(gradeListeners, gradeListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        gradeListeners = listeners;
+    }
+
+    public synchronized void removeGradeListener(GradeListener listener) {
+        GradeListener[] listeners = gradeListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GradeListener[] remaining = new GradeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                gradeListeners = remaining;
+                return;
+            }
+        }
+    }
+
+    // Runs before the grade is assigned. If a listener throws, the ones already
+    // told about the change are told it was undone, and the grade stays as it was.
+    private void notifyListeners(char oldGrade, char newGrade) {
+        GradeListener[] listeners = gradeListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            try {
+                listeners[i].gradeChanged(this, oldGrade, newGrade);
+            } catch (RuntimeException e) {
+                for (int j = i - 1; j >= 0; j--) {
+                    try {
+                        listeners[j].gradeChanged(this, newGrade, oldGrade);
+                    } catch (RuntimeException undo) {
+                        e.addSuppressed(undo);
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    static boolean isValidGrade(char grade) {
+        return grade == 'A' || grade == 'B' ||
+                grade == 'C' || grade == 'D' ||
+                grade == 'F';
+    }
 }
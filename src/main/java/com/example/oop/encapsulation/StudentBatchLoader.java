@@ -0,0 +1,168 @@
+package com.example.oop.encapsulation;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Builds Students for bulk imports in parallel. The input is split across a
+// ForkJoinPool; each leaf constructs its slice of students and validates their
+// grades. Invalid grades are not printed one by one as Student.setGrade does:
+// they are collected into a Rejections report (index + offending char), and the
+// student keeps grade 'N'. An input grade of 'N' means "not graded yet" and is
+// accepted.
+public class StudentBatchLoader {
+    private static final int DEFAULT_THRESHOLD = 4096;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public StudentBatchLoader() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    // threshold is the largest slice a single task handles without splitting
+    public StudentBatchLoader(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public Batch load(int[] studentIds, String[] firstNames, char[] grades) {
+        int length = studentIds.length;
+        if (firstNames.length != length || grades.length != length) {
+            throw new IllegalArgumentException("Input arrays differ in length: " + length + ", "
+                    + firstNames.length + ", " + grades.length);
+        }
+        Student[] students = new Student[length];
+        Rejections rejections = pool.invoke(new LoadTask(studentIds, firstNames, grades, students, 0, length, threshold));
+        return new Batch(students, rejections);
+    }
+
+    public record Batch(Student[] students, Rejections rejections) {
+    }
+
+    // Rejected input positions in ascending order, stored as two parallel arrays
+    public static final class Rejections {
+        private static final Rejections NONE = new Rejections(new int[0], new char[0], 0);
+
+        private final int[] indices;
+        private final char[] grades;
+        private final int size;
+
+        private Rejections(int[] indices, char[] grades, int size) {
+            this.indices = indices;
+            this.grades = grades;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public int index(int i) {
+            checkIndex(i);
+            return indices[i];
+        }
+
+        public char grade(int i) {
+            checkIndex(i);
+            return grades[i];
+        }
+
+        // Left covers lower input indices, so concatenation keeps the order
+        private static Rejections concat(Rejections left, Rejections right) {
+            if (right.size == 0) {
+                return left;
+            }
+            if (left.size == 0) {
+                return right;
+            }
+            int[] indices = Arrays.copyOf(left.indices, left.size + right.size);
+            char[] grades = Arrays.copyOf(left.grades, left.size + right.size);
+            System.arraycopy(right.indices, 0, indices, left.size, right.size);
+            System.arraycopy(right.grades, 0, grades, left.size, right.size);
+            return new Rejections(indices, grades, indices.length);
+        }
+
+        private void checkIndex(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("Index " + i + " out of bounds for size " + size);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder().append(size).append(" invalid grade(s)");
+            for (int i = 0; i < size; i++) {
+                sb.append(i == 0 ? ": " : ", ").append('#').append(indices[i]).append("='").append(grades[i]).append('\'');
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final class LoadTask extends RecursiveTask<Rejections> {
+        private final int[] studentIds;
+        private final String[] firstNames;
+        private final char[] grades;
+        private final Student[] students;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        LoadTask(int[] studentIds, String[] firstNames, char[] grades, Student[] students,
+                 int from, int to, int threshold) {
+            this.studentIds = studentIds;
+            this.firstNames = firstNames;
+            this.grades = grades;
+            this.students = students;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Rejections compute() {
+            if (to - from <= threshold) {
+                return loadSlice();
+            }
+            int middle = (from + to) >>> 1;
+            LoadTask left = new LoadTask(studentIds, firstNames, grades, students, from, middle, threshold);
+            LoadTask right = new LoadTask(studentIds, firstNames, grades, students, middle, to, threshold);
+            left.fork();
+            Rejections rightRejections = right.compute();
+            return Rejections.concat(left.join(), rightRejections);
+        }
+
+        private Rejections loadSlice() {
+            int[] rejectedIndices = null;
+            char[] rejectedGrades = null;
+            int rejected = 0;
+            for (int i = from; i < to; i++) {
+                Student student = new Student(studentIds[i], firstNames[i]);
+                char grade = grades[i];
+                if (Student.isValidGrade(grade)) {
+                    student.setGrade(grade);
+                } else if (grade != 'N') {
+                    if (rejectedIndices == null) {
+                        rejectedIndices = new int[8];
+                        rejectedGrades = new char[8];
+                    } else if (rejected == rejectedIndices.length) {
+                        rejectedIndices = Arrays.copyOf(rejectedIndices, rejected * 2);
+                        rejectedGrades = Arrays.copyOf(rejectedGrades, rejected * 2);
+                    }
+                    rejectedIndices[rejected] = i;
+                    rejectedGrades[rejected] = grade;
+                    rejected++;
+                }
+                students[i] = student;
+            }
+            return rejected == 0 ? Rejections.NONE : new Rejections(rejectedIndices, rejectedGrades, rejected);
+        }
+    }
+}
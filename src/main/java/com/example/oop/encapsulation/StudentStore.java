@@ -0,0 +1,128 @@
+package com.example.oop.encapsulation;
+
+import com.example.oop.collections.StringPool;
+import com.example.oop.output.Output;
+
+import java.util.Arrays;
+
+// Columnar storage for large numbers of students: one primitive array per field
+// instead of one Student object (plus one String) per record.
+public class StudentStore {
+    private int[] studentIds;
+    private int[] nameHandles;
+    private byte[] grades;
+    private int size;
+
+    // Each distinct first name is stored once in the pool's byte arena
+    private final StringPool names = new StringPool();
+
+    public StudentStore() {
+        this(16);
+    }
+
+    public StudentStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.studentIds = new int[capacity];
+        this.nameHandles = new int[capacity];
+        this.grades = new byte[capacity];
+    }
+
+    // Returns the index of the new record
+    public int add(int studentId, String firstName) {
+        if (size == studentIds.length) {
+            int newCapacity = studentIds.length * 2;
+            studentIds = Arrays.copyOf(studentIds, newCapacity);
+            nameHandles = Arrays.copyOf(nameHandles, newCapacity);
+            grades = Arrays.copyOf(grades, newCapacity);
+        }
+        studentIds[size] = studentId;
+        nameHandles[size] = names.intern(firstName);
+        grades[size] = (byte) 'N';
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int distinctNames() {
+        return names.size();
+    }
+
+    public int getStudentId(int index) {
+        checkIndex(index);
+        return studentIds[index];
+    }
+
+    public String getFirstName(int index) {
+        checkIndex(index);
+        return names.get(nameHandles[index]);
+    }
+
+    public char getGrade(int index) {
+        checkIndex(index);
+        return (char) grades[index];
+    }
+
+    // Same validation rules as Student.setGrade
+    public void setGrade(int index, char newGrade) {
+        checkIndex(index);
+        if (Student.isValidGrade(newGrade)) {
+            grades[index] = (byte) newGrade;
+        } else {
+            Output.println("Invalid grade.");
+        }
+    }
+
+    // Returns a reusable Student view; call moveTo() to point it at another record
+    public View view(int index) {
+        return new View(this).moveTo(index);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    // Flyweight: a Student whose state lives in the store, not in its own fields
+    public static final class View extends Student {
+        private final StudentStore store;
+        private int index;
+
+        private View(StudentStore store) {
+            super(0, null);
+            this.store = store;
+        }
+
+        public View moveTo(int index) {
+            store.checkIndex(index);
+            this.index = index;
+            return this;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public int getStudentId() {
+            return store.getStudentId(index);
+        }
+
+        @Override
+        public String getFirstName() {
+            return store.getFirstName(index);
+        }
+
+        @Override
+        public char getGrade() {
+            return store.getGrade(index);
+        }
+
+        @Override
+        public void setGrade(char newGrade) {
+            store.setGrade(index, newGrade);
+        }
+    }
+}
@@ -1,12 +1,35 @@
 package com.example.oop.inheritance;
 
+import com.example.oop.codec.GenerateCodec;
+import com.example.oop.collections.WeakInterner;
+
+@GenerateCodec(tag = 1)
 public class Car extends Vehicle {
+    private static final WeakInterner<Car> INTERNER = new WeakInterner<>();
+
     private final int numberOfDoors;
-    public Car(String brand, int doors) {
+    public Car(String brand, int numberOfDoors) {
         super(brand); // Call superclass constructor
-        this.numberOfDoors = doors;
+        this.numberOfDoors = numberOfDoors;
     }
+
+    // Returns a shared instance for each brand and door count, so large data sets
+    // with many repeated cars hold one Car (and one brand String) per combination
+    public static Car of(String brand, int doors) {
+        return INTERNER.intern(new Car(brand, doors));
+    }
+
     public int getNumberOfDoors() {
         return numberOfDoors;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && numberOfDoors == ((Car) o).numberOfDoors;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + numberOfDoors;
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.oop.inheritance;
+
+import com.example.oop.collections.WeakInterner;
+
+public record CarRecord(String brand, int numberOfDoors) implements VehicleValue {
+    private static final WeakInterner<CarRecord> INTERNER = new WeakInterner<>();
+
+    // Interning factory, as Car.of
+    public static CarRecord of(String brand, int doors) {
+        return INTERNER.intern(new CarRecord(brand, doors));
+    }
+
+    @Override
+    public Car toVehicle() {
+        return new Car(brand, numberOfDoors);
+    }
+}
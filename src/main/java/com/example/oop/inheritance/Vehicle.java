@@ -1,8 +1,25 @@
 package com.example.oop.inheritance;
 
+import com.example.oop.codec.GenerateCodec;
+
+import java.util.Objects;
+
+@GenerateCodec
 public class Vehicle {
     private final String brand;
     public Vehicle(String brand) { this.brand = brand; }
     public String getBrand() { return brand; }
     public String honk() { return "Tuut, tuut!"; }
+
+    // Value-based equality: vehicles of the same class and brand are interchangeable
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Vehicle other && getClass() == other.getClass()
+                && Objects.equals(brand, other.brand);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(brand);
+    }
 }
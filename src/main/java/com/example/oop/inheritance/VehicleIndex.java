@@ -0,0 +1,135 @@
+package com.example.oop.inheritance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// In-memory index over vehicles. Every vehicle gets an int slot; brands are
+// interned to small ints, and each brand and each door count keeps a bitmap of
+// slots, and one more bitmap holds every Car. Queries such as "Cars of brand X"
+// or "Cars of brand X with 4 doors" intersect two bitmaps instead of scanning
+// every vehicle.
+public class VehicleIndex {
+    private Vehicle[] slots = new Vehicle[16];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotsUsed;
+    private int size;
+
+    private final Map<String, Integer> brandIds = new HashMap<>();
+    private final List<RoaringBitmap> brandBitmaps = new ArrayList<>();
+    private final Map<Integer, RoaringBitmap> doorBuckets = new HashMap<>();
+    private final RoaringBitmap cars = new RoaringBitmap();
+
+    // Returns the slot of the vehicle, used to remove it later
+    public int add(Vehicle vehicle) {
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+        slots[slot] = vehicle;
+        brandBitmap(vehicle.getBrand()).add(slot);
+        if (vehicle instanceof Car car) {
+            cars.add(slot);
+            doorBuckets.computeIfAbsent(car.getNumberOfDoors(), doors -> new RoaringBitmap()).add(slot);
+        }
+        size++;
+        return slot;
+    }
+
+    public boolean remove(int slot) {
+        if (slot < 0 || slot >= slotsUsed || slots[slot] == null) {
+            return false;
+        }
+        Vehicle vehicle = slots[slot];
+        brandBitmaps.get(brandIds.get(vehicle.getBrand())).remove(slot);
+        if (vehicle instanceof Car car) {
+            cars.remove(slot);
+            doorBuckets.get(car.getNumberOfDoors()).remove(slot);
+        }
+        slots[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+        return true;
+    }
+
+    public Vehicle get(int slot) {
+        return slot >= 0 && slot < slotsUsed ? slots[slot] : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int brandCount() {
+        return brandIds.size();
+    }
+
+    public List<Vehicle> findByBrand(String brand) {
+        List<Vehicle> result = new ArrayList<>();
+        RoaringBitmap bitmap = bitmapFor(brand);
+        if (bitmap != null) {
+            bitmap.forEach(slot -> result.add(slots[slot]));
+        }
+        return result;
+    }
+
+    public List<Car> findCars(String brand) {
+        List<Car> result = new ArrayList<>();
+        carsMatching(brand).forEach(slot -> result.add((Car) slots[slot]));
+        return result;
+    }
+
+    public int countCars(String brand) {
+        return carsMatching(brand).cardinality();
+    }
+
+    public List<Car> findCars(String brand, int doors) {
+        List<Car> result = new ArrayList<>();
+        carsMatching(brand, doors).forEach(slot -> result.add((Car) slots[slot]));
+        return result;
+    }
+
+    public int countCars(String brand, int doors) {
+        return carsMatching(brand, doors).cardinality();
+    }
+
+    private RoaringBitmap carsMatching(String brand) {
+        RoaringBitmap byBrand = bitmapFor(brand);
+        return byBrand == null ? new RoaringBitmap() : byBrand.and(cars);
+    }
+
+    private RoaringBitmap carsMatching(String brand, int doors) {
+        RoaringBitmap byBrand = bitmapFor(brand);
+        RoaringBitmap byDoors = doorBuckets.get(doors);
+        if (byBrand == null || byDoors == null) {
+            return new RoaringBitmap();
+        }
+        // Door buckets only ever contain cars, so no need to intersect with 'cars'
+        return byBrand.and(byDoors);
+    }
+
+    private RoaringBitmap bitmapFor(String brand) {
+        Integer id = brandIds.get(brand);
+        return id == null ? null : brandBitmaps.get(id);
+    }
+
+    private RoaringBitmap brandBitmap(String brand) {
+        Integer id = brandIds.get(brand);
+        if (id == null) {
+            id = brandBitmaps.size();
+            brandIds.put(brand, id);
+            brandBitmaps.add(new RoaringBitmap());
+        }
+        return brandBitmaps.get(id);
+    }
+
+    private int nextSlot() {
+        if (slotsUsed == slots.length) {
+            slots = Arrays.copyOf(slots, slotsUsed * 2);
+        }
+        return slotsUsed++;
+    }
+}
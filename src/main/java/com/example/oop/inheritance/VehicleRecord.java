@@ -0,0 +1,8 @@
+package com.example.oop.inheritance;
+
+public record VehicleRecord(String brand) implements VehicleValue {
+    @Override
+    public Vehicle toVehicle() {
+        return new Vehicle(brand);
+    }
+}
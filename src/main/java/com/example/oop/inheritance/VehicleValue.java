@@ -0,0 +1,21 @@
+package com.example.oop.inheritance;
+
+// Record counterparts of Vehicle and Car. Records get equals/hashCode from their
+// components, so equal values can be deduplicated or used as map keys, and
+// records cannot be subclassed, so the hierarchy is closed with a sealed interface.
+public sealed interface VehicleValue permits VehicleRecord, CarRecord {
+    String brand();
+
+    Vehicle toVehicle();
+
+    default String honk() {
+        return "Tuut, tuut!";
+    }
+
+    static VehicleValue from(Vehicle vehicle) {
+        return switch (vehicle) {
+            case Car car -> new CarRecord(car.getBrand(), car.getNumberOfDoors());
+            default -> new VehicleRecord(vehicle.getBrand());
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.oop.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.example.oop.Draw")
+@Label("Draw")
+@Category({"OOP Demo", "Interfaces"})
+@StackTrace(false)
+class DrawEvent extends jdk.jfr.Event {
+    @Label("Drawable")
+    String drawable;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
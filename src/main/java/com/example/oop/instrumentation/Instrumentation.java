@@ -0,0 +1,105 @@
+package com.example.oop.instrumentation;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+// Opt-in probes for the demo hot paths, enabled with -Doop.instrumentation=true.
+// Call sites test ENABLED before doing any work; it is a static final, so when
+// it is false the JIT drops the probe code entirely.
+//
+// Each probe records its latency in a histogram exported as an MXBean, and
+// emits a JFR event when a recording has that event enabled.
+public final class Instrumentation {
+    public static final boolean ENABLED = Boolean.getBoolean("oop.instrumentation");
+
+    public static final String SHAPE_AREA = "ShapeArea";
+    public static final String DRAW = "Draw";
+    public static final String SET_GRADE = "SetGrade";
+    public static final String OVERLOAD_ADD = "OverloadAdd";
+
+    // Histograms are only allocated when the probes are on; callers check ENABLED
+    // before recording, so the null fields are never touched
+    private static final ProbeStats shapeArea = ENABLED ? new ProbeStats() : null;
+    private static final ProbeStats draw = ENABLED ? new ProbeStats() : null;
+    private static final ProbeStats setGrade = ENABLED ? new ProbeStats() : null;
+    private static final ProbeStats overloadAdd = ENABLED ? new ProbeStats() : null;
+
+    static {
+        if (ENABLED) {
+            register(SHAPE_AREA, shapeArea);
+            register(DRAW, draw);
+            register(SET_GRADE, setGrade);
+            register(OVERLOAD_ADD, overloadAdd);
+        }
+    }
+
+    private Instrumentation() {
+    }
+
+    // Name under which a probe's MXBean is registered
+    public static ObjectName objectName(String probe) {
+        try {
+            return new ObjectName("com.example.oop:type=Instrumentation,probe=" + probe);
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Bad probe name: " + probe, e);
+        }
+    }
+
+    public static void shapeArea(Object shape, double area, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        shapeArea.record(elapsed);
+        ShapeAreaEvent event = new ShapeAreaEvent();
+        if (event.isEnabled()) {
+            event.shape = shape.getClass().getName();
+            event.area = area;
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }
+
+    public static void draw(Object drawable, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        draw.record(elapsed);
+        DrawEvent event = new DrawEvent();
+        if (event.isEnabled()) {
+            event.drawable = drawable.getClass().getName();
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }
+
+    public static void setGrade(int studentId, char oldGrade, char newGrade, boolean accepted, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        setGrade.record(elapsed);
+        SetGradeEvent event = new SetGradeEvent();
+        if (event.isEnabled()) {
+            event.studentId = studentId;
+            event.oldGrade = oldGrade;
+            event.newGrade = newGrade;
+            event.accepted = accepted;
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }
+
+    public static void overloadAdd(int operands, int result, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        overloadAdd.record(elapsed);
+        OverloadAddEvent event = new OverloadAddEvent();
+        if (event.isEnabled()) {
+            event.operands = operands;
+            event.result = result;
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }
+
+    private static void register(String probe, ProbeStats stats) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(stats, objectName(probe));
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register instrumentation MXBean " + probe, e);
+        }
+    }
+}
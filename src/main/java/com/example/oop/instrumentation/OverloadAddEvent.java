@@ -0,0 +1,23 @@
+package com.example.oop.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.example.oop.OverloadAdd")
+@Label("Overload Add")
+@Category({"OOP Demo", "Polymorphism"})
+@StackTrace(false)
+class OverloadAddEvent extends jdk.jfr.Event {
+    @Label("Operands")
+    int operands;
+
+    @Label("Result")
+    int result;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,41 @@
+package com.example.oop.instrumentation;
+
+import com.example.oop.metrics.LatencyHistogram;
+
+class ProbeStats implements ProbeStatsMXBean {
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    void record(long elapsedNanos) {
+        latencies.record(elapsedNanos);
+    }
+
+    @Override
+    public long getCount() {
+        return latencies.count();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latencies.mean();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latencies.percentile(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latencies.percentile(99);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latencies.max();
+    }
+
+    @Override
+    public void reset() {
+        latencies.reset();
+    }
+}
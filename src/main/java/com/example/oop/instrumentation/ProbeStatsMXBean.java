@@ -0,0 +1,16 @@
+package com.example.oop.instrumentation;
+
+// Per-probe counters exported over JMX as com.example.oop:type=Instrumentation,probe=<name>
+public interface ProbeStatsMXBean {
+    long getCount();
+
+    double getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getMaxNanos();
+
+    void reset();
+}
@@ -0,0 +1,29 @@
+package com.example.oop.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.example.oop.SetGrade")
+@Label("Set Grade")
+@Category({"OOP Demo", "Encapsulation"})
+@StackTrace(false)
+class SetGradeEvent extends jdk.jfr.Event {
+    @Label("Student Id")
+    int studentId;
+
+    @Label("Old Grade")
+    char oldGrade;
+
+    @Label("Requested Grade")
+    char newGrade;
+
+    @Label("Accepted")
+    boolean accepted;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
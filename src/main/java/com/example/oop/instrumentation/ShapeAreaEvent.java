@@ -0,0 +1,23 @@
+package com.example.oop.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.example.oop.ShapeArea")
+@Label("Shape Area")
+@Category({"OOP Demo", "Abstraction"})
+@StackTrace(false)
+class ShapeAreaEvent extends jdk.jfr.Event {
+    @Label("Shape")
+    String shape;
+
+    @Label("Area")
+    double area;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
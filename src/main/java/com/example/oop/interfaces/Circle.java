@@ -1,8 +1,29 @@
 package com.example.oop.interfaces;
 
+import com.example.oop.instrumentation.Instrumentation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 public class Circle implements Drawable {
+    private static final String DRAWING = "Drawing a Circle";
+    private static final byte[] DRAWING_BYTES = DRAWING.getBytes(StandardCharsets.UTF_8);
+
     @Override
     public String draw() {
-        return "Drawing a Circle";
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        if (Instrumentation.ENABLED) {
+            Instrumentation.draw(this, start);
+        }
+        return DRAWING;
+    }
+
+    @Override
+    public void drawTo(ByteBuffer sink) {
+        long start = Instrumentation.ENABLED ? System.nanoTime() : 0;
+        sink.put(DRAWING_BYTES);
+        if (Instrumentation.ENABLED) {
+            Instrumentation.draw(this, start);
+        }
     }
 }
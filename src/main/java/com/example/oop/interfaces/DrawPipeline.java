@@ -0,0 +1,93 @@
+package com.example.oop.interfaces;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Batches draws of any Drawable into one reusable direct buffer, one line per
+// drawing, and writes the buffer to a channel only when it fills up.
+public class DrawPipeline implements AutoCloseable {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    // Flush ahead of time once less than this much space is left, so ordinary
+    // drawings never hit the (allocating) overflow path
+    private static final int HEADROOM = 1024;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final int headroom;
+    private long drawCount;
+
+    public DrawPipeline(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public DrawPipeline(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.headroom = Math.min(HEADROOM, bufferSize / 2);
+    }
+
+    public static DrawPipeline toFile(Path file) throws IOException {
+        return new DrawPipeline(FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    public void draw(Drawable drawable) {
+        if (buffer.remaining() < headroom) {
+            flush();
+        }
+        int start = buffer.position();
+        try {
+            drawLine(drawable);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            flush();
+            try {
+                drawLine(drawable);
+            } catch (BufferOverflowException tooLarge) {
+                buffer.clear();
+                throw new IllegalArgumentException("Drawing does not fit in a " + buffer.capacity() + " byte buffer");
+            }
+        }
+        drawCount++;
+    }
+
+    public void drawAll(Drawable[] drawables) {
+        for (Drawable drawable : drawables) {
+            draw(drawable);
+        }
+    }
+
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private void drawLine(Drawable drawable) {
+        drawable.drawTo(buffer);
+        buffer.put((byte) '\n');
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.oop.interfaces;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 public interface Drawable {
     String draw(); // implicitly public and abstract
-}
-
 
+    // Writes the drawing into a caller-owned buffer. The default bridges to draw();
+    // implementations can override it to avoid building a String per call.
+    default void drawTo(ByteBuffer sink) {
+        sink.put(draw().getBytes(StandardCharsets.UTF_8));
+    }
+}
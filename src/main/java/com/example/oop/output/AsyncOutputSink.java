@@ -0,0 +1,179 @@
+package com.example.oop.output;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Lock-free multi-producer/single-consumer output sink. Callers only claim a slot
+// in a bounded ring buffer; a background thread drains the ring and writes the
+// lines to the underlying stream in batches. When the ring is full, callers spin
+// briefly and then park until the writer catches up.
+public class AsyncOutputSink implements OutputSink {
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = 50_000;
+    private static final int FULL_SPINS = 64;
+
+    private final PrintStream out;
+    private final String[] lines;
+    // sequences[i] == position      -> slot free for the producer claiming 'position'
+    // sequences[i] == position + 1  -> slot holds a line ready for the consumer
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+    private volatile long written;
+    private volatile boolean running = true;
+    private final Thread writer;
+
+    public AsyncOutputSink(PrintStream out) {
+        this(out, DEFAULT_CAPACITY);
+    }
+
+    public AsyncOutputSink(PrintStream out, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.out = out;
+        this.lines = new String[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.writer = new Thread(this::drainLoop, "output-sink-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void println(String line) {
+        int spins = 0;
+        while (running) {
+            if (offer(line)) {
+                if (!running) {
+                    // close() may have stopped the writer before it saw this line
+                    drainAfterClose();
+                }
+                return;
+            }
+            LockSupport.unpark(writer);
+            if (++spins < FULL_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        // Closed: fall back to writing on the caller's thread
+        synchronized (out) {
+            out.println(line);
+        }
+    }
+
+    @Override
+    public void flush() {
+        long target = tail.get();
+        while (written < target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            Thread.yield();
+        }
+        out.flush();
+    }
+
+    // Drains everything already printed, then stops the writer thread
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        out.flush();
+    }
+
+    private boolean offer(String line) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.getAcquire(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    lines[index] = line;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false; // full
+            }
+            // Another producer claimed this position first; retry with the new tail
+        }
+    }
+
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder();
+        while (true) {
+            if (drainBatch(batch) > 0) {
+                continue;
+            }
+            if (!running && head == tail.get()) {
+                return;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    // Writes up to MAX_BATCH published lines and returns how many there were
+    private int drainBatch(StringBuilder batch) {
+        int count = 0;
+        while (count < MAX_BATCH) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) {
+                break;
+            }
+            batch.append(lines[index]).append(System.lineSeparator());
+            lines[index] = null;
+            sequences.setRelease(index, head + lines.length);
+            head++;
+            count++;
+        }
+        if (count > 0) {
+            synchronized (out) {
+                out.print(batch);
+                out.flush();
+            }
+            batch.setLength(0);
+            written = head;
+        }
+        return count;
+    }
+
+    // Once the writer has exited, callers that got a line into the ring after
+    // close() take over as the consumer, one at a time. A line stuck behind a
+    // slot that is not published yet is drained by that slot's producer, which
+    // runs this too.
+    private void drainAfterClose() {
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        synchronized (this) {
+            StringBuilder batch = new StringBuilder();
+            while (drainBatch(batch) > 0) {
+                // keep going
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.oop.output;
+
+// Process-wide access to the current OutputSink. The default is an
+// AsyncOutputSink over System.out that is flushed when the JVM shuts down.
+public final class Output {
+    private static volatile OutputSink sink;
+    private static final ThreadLocal<OutputSink> THREAD_SINK = new ThreadLocal<>();
+
+    private Output() {
+    }
+
+    public static void println(String line) {
+        sink().println(line);
+    }
+
+    public static void flush() {
+        sink().flush();
+    }
+
+    public static OutputSink sink() {
+        OutputSink local = THREAD_SINK.get();
+        if (local != null) {
+            return local;
+        }
+        OutputSink current = sink;
+        return current != null ? current : DefaultSink.INSTANCE;
+    }
+
+    // Returns the previously installed sink so callers can restore it. null stands
+    // for the default sink, which is not created just to be returned here.
+    public static OutputSink setSink(OutputSink newSink) {
+        OutputSink previous = sink;
+        sink = newSink;
+        return previous;
+    }
+
+    // Runs the task with all output on the current thread sent to threadSink
+    public static void runWith(OutputSink threadSink, Runnable task) {
+        OutputSink previous = THREAD_SINK.get();
+        THREAD_SINK.set(threadSink);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                THREAD_SINK.remove();
+            } else {
+                THREAD_SINK.set(previous);
+            }
+        }
+    }
+
+    // Created on first use only, so programs that install their own sink never start the writer thread
+    private static final class DefaultSink {
+        static final AsyncOutputSink INSTANCE = new AsyncOutputSink(System.out);
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::close, "output-sink-shutdown"));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.oop.output;
+
+// Destination for the text the examples print. Implementations decide whether a
+// line is written immediately or handed off to another thread.
+public interface OutputSink extends AutoCloseable {
+    void println(String line);
+
+    // Blocks until every line printed so far has been written out
+    default void flush() {
+    }
+
+    @Override
+    default void close() {
+        flush();
+    }
+}
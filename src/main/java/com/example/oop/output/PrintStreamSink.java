@@ -0,0 +1,22 @@
+package com.example.oop.output;
+
+import java.io.PrintStream;
+
+// Writes each line straight through to a PrintStream on the caller's thread
+public class PrintStreamSink implements OutputSink {
+    private final PrintStream out;
+
+    public PrintStreamSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void println(String line) {
+        out.println(line);
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.oop.query;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+// QuerySpliterator fused with a mapping to double, so values are never boxed
+class DoubleQuerySpliterator<T> implements Spliterator.OfDouble {
+    private final Query<T> query;
+    private final ToDoubleFunction<? super T> mapper;
+    private int index;
+    private final int fence;
+
+    DoubleQuerySpliterator(Query<T> query, ToDoubleFunction<? super T> mapper, int origin, int fence) {
+        this.query = query;
+        this.mapper = mapper;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(DoubleConsumer action) {
+        while (index < fence) {
+            Object element = query.source.get(index++);
+            if (query.matches(element)) {
+                action.accept(mapper.applyAsDouble((T) element));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(DoubleConsumer action) {
+        int end = fence;
+        for (int i = index; i < end; i++) {
+            Object element = query.source.get(i);
+            if (query.matches(element)) {
+                action.accept(mapper.applyAsDouble((T) element));
+            }
+        }
+        index = end;
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        Spliterator.OfDouble prefix = new DoubleQuerySpliterator<>(query, mapper, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return query.characteristics();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.oop.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Lazy filter/aggregate query over a list, e.g.
+//   Query.from(drawables).ofType(Circle.class).where(...).stream()
+// Building a query only records the steps. Terminal streams walk the source
+// through a single spliterator that applies the type check, the filter and
+// (for mapToDouble) the mapping in one loop, with no intermediate lists and no
+// boxed doubles. Spliterators split index ranges in half, so parallel streams
+// get even work, and short-circuiting operations stop at the first match.
+public class Query<T> {
+    final List<?> source;
+    final Class<?> type;
+    final Predicate<Object> filter;
+    final boolean parallel;
+
+    Query(List<?> source, Class<?> type, Predicate<Object> filter, boolean parallel) {
+        this.source = source;
+        this.type = type;
+        this.filter = filter;
+        this.parallel = parallel;
+    }
+
+    // Lists without fast indexed access are copied once
+    public static <T> Query<T> from(List<? extends T> source) {
+        return new Query<>(randomAccess(source), null, null, false);
+    }
+
+    static List<?> randomAccess(List<?> source) {
+        return source instanceof RandomAccess ? source : new ArrayList<>(source);
+    }
+
+    // Keeps only elements of the given type
+    public <U extends T> Query<U> ofType(Class<U> type) {
+        return new Query<>(source, type, filter, parallel);
+    }
+
+    public Query<T> where(Predicate<? super T> predicate) {
+        return new Query<>(source, type, and(predicate), parallel);
+    }
+
+    public Query<T> parallel() {
+        return new Query<>(source, type, filter, true);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(new QuerySpliterator<>(this, 0, source.size()), parallel);
+    }
+
+    public DoubleStream mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return StreamSupport.doubleStream(new DoubleQuerySpliterator<>(this, mapper, 0, source.size()), parallel);
+    }
+
+    public long count() {
+        return stream().count();
+    }
+
+    // The most recent ofType() is the narrowest, so it is the only type to check
+    boolean matches(Object element) {
+        return (type == null || type.isInstance(element)) && (filter == null || filter.test(element));
+    }
+
+    // Sizes are exact, and so splits are too, only when nothing is filtered out
+    int characteristics() {
+        int characteristics = Spliterator.ORDERED;
+        if (type == null && filter == null) {
+            characteristics |= Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+        return characteristics;
+    }
+
+    // Every element reaching the filter is at least a T, so widening its parameter is safe
+    @SuppressWarnings("unchecked")
+    Predicate<Object> and(Predicate<? super T> predicate) {
+        Predicate<Object> added = (Predicate<Object>) predicate;
+        return filter == null ? added : filter.and(added);
+    }
+}
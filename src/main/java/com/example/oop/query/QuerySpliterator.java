@@ -0,0 +1,65 @@
+package com.example.oop.query;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+// Walks source indexes [index, fence) and yields the elements the query matches
+class QuerySpliterator<T> implements Spliterator<T> {
+    private final Query<T> query;
+    private int index;
+    private final int fence;
+
+    QuerySpliterator(Query<T> query, int origin, int fence) {
+        this.query = query;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (index < fence) {
+            Object element = query.source.get(index++);
+            if (query.matches(element)) {
+                action.accept((T) element);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super T> action) {
+        int end = fence;
+        for (int i = index; i < end; i++) {
+            Object element = query.source.get(i);
+            if (query.matches(element)) {
+                action.accept((T) element);
+            }
+        }
+        index = end;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        Spliterator<T> prefix = new QuerySpliterator<>(query, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    // Exact only when nothing is filtered out
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return query.characteristics();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.oop.query;
+
+import com.example.oop.abstraction.Shape;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+
+// Query over shapes, adding area(); see Shapes.from
+public class ShapeQuery<S extends Shape> extends Query<S> {
+    ShapeQuery(List<?> source, Class<?> type, Predicate<Object> filter, boolean parallel) {
+        super(source, type, filter, parallel);
+    }
+
+    @Override
+    public <U extends S> ShapeQuery<U> ofType(Class<U> type) {
+        return new ShapeQuery<>(source, type, filter, parallel);
+    }
+
+    @Override
+    public ShapeQuery<S> where(Predicate<? super S> predicate) {
+        return new ShapeQuery<>(source, type, and(predicate), parallel);
+    }
+
+    @Override
+    public ShapeQuery<S> parallel() {
+        return new ShapeQuery<>(source, type, filter, true);
+    }
+
+    // Areas of the matching shapes, e.g. area().sum() or area().max()
+    public DoubleStream area() {
+        return mapToDouble(Shape::calculateArea);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.oop.query;
+
+import com.example.oop.abstraction.Shape;
+
+import java.util.List;
+
+// Entry point for shape queries: Shapes.from(shapes).ofType(Circle.class).area().sum()
+public final class Shapes {
+    private Shapes() {
+    }
+
+    public static ShapeQuery<Shape> from(List<? extends Shape> source) {
+        return new ShapeQuery<>(Query.randomAccess(source), null, null, false);
+    }
+}
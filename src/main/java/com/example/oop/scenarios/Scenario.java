@@ -0,0 +1,8 @@
+package com.example.oop.scenarios;
+
+// One section of the Main demonstration, runnable on its own
+public record Scenario(String name, Runnable body) {
+    public void run() {
+        body.run();
+    }
+}
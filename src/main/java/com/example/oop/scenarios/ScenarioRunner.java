@@ -0,0 +1,138 @@
+package com.example.oop.scenarios;
+
+import com.example.oop.metrics.LatencyHistogram;
+import com.example.oop.output.Output;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+// Runs every scenario many times concurrently, one virtual thread per run.
+// Each run's output is captured separately, so the report can print it per
+// scenario and per iteration regardless of how the runs interleaved. A run
+// that throws leaves a null output and its exception in failures().
+public class ScenarioRunner {
+    private final List<Scenario> scenarios;
+    private final int iterations;
+    private final int concurrency;
+
+    public ScenarioRunner(List<Scenario> scenarios, int iterations, int concurrency) {
+        if (iterations < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("iterations and concurrency must be positive");
+        }
+        this.scenarios = scenarios;
+        this.iterations = iterations;
+        this.concurrency = concurrency;
+    }
+
+    public List<Result> run() throws InterruptedException {
+        List<Result> results = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            results.add(new Result(scenario, new String[iterations], new Throwable[iterations],
+                    new LatencyHistogram()));
+        }
+        Future<?>[][] runs = new Future<?>[results.size()][iterations];
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < iterations; i++) {
+                for (int r = 0; r < results.size(); r++) {
+                    Result result = results.get(r);
+                    int iteration = i;
+                    permits.acquire();
+                    runs[r][i] = executor.submit(() -> {
+                        try {
+                            runOnce(result, iteration);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+            }
+        } // close() waits for every submitted run
+        for (int r = 0; r < results.size(); r++) {
+            for (int i = 0; i < iterations; i++) {
+                try {
+                    runs[r][i].get();
+                } catch (ExecutionException e) {
+                    results.get(r).failures()[i] = e.getCause();
+                }
+            }
+        }
+        return results;
+    }
+
+    private static void runOnce(Result result, int iteration) {
+        StringBuilder captured = new StringBuilder();
+        long start = System.nanoTime();
+        Output.runWith(line -> captured.append(line).append('\n'), result.scenario()::run);
+        result.latencies().record(System.nanoTime() - start);
+        result.outputs()[iteration] = captured.toString();
+    }
+
+    public record Result(Scenario scenario, String[] outputs, Throwable[] failures, LatencyHistogram latencies) {
+        // Number of iterations whose output differs from the first one; failed runs count as different
+        public int mismatchedOutputs() {
+            int mismatched = 0;
+            for (String output : outputs) {
+                if (output == null || !output.equals(outputs[0])) {
+                    mismatched++;
+                }
+            }
+            return mismatched;
+        }
+
+        public int failedRuns() {
+            int failed = 0;
+            for (Throwable failure : failures) {
+                if (failure != null) {
+                    failed++;
+                }
+            }
+            return failed;
+        }
+
+        // First failure, or null if every run completed
+        public Throwable firstFailure() {
+            for (Throwable failure : failures) {
+                if (failure != null) {
+                    return failure;
+                }
+            }
+            return null;
+        }
+    }
+
+    // Usage: ScenarioRunner [iterations] [concurrency]
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        ScenarioRunner runner = new ScenarioRunner(Scenarios.all(), iterations, concurrency);
+        long start = System.nanoTime();
+        List<Result> results;
+        try {
+            results = runner.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        for (Result result : results) {
+            String output = result.outputs()[0];
+            if (output != null) {
+                Output.println(output.endsWith("\n") ? output.substring(0, output.length() - 1) : output);
+            }
+            Output.println("[" + result.scenario().name() + "] " + result.latencies().summaryMicros()
+                    + " mismatched=" + result.mismatchedOutputs() + " failed=" + result.failedRuns());
+            if (result.firstFailure() != null) {
+                Output.println("  first failure: " + result.firstFailure());
+            }
+        }
+        Output.println("\nRan " + iterations + " iterations of " + results.size()
+                + " scenarios with concurrency " + concurrency + " in " + elapsedMillis + " ms");
+    }
+}
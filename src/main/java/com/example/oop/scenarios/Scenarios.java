@@ -0,0 +1,96 @@
+package com.example.oop.scenarios;
+
+import com.example.oop.AdditionalConcepts;
+import com.example.oop.BasicClass;
+import com.example.oop.ChildClass;
+import com.example.oop.ConcreteClass;
+import com.example.oop.EncapsulationExample;
+import com.example.oop.GrandChildClass;
+import com.example.oop.InterfaceImplementer;
+import com.example.oop.MyInterface;
+import com.example.oop.OverloadExample;
+import com.example.oop.PolymorphismChild;
+import com.example.oop.output.Output;
+
+import java.util.List;
+
+// The sections of Main, in the order Main prints them
+public final class Scenarios {
+    private Scenarios() {
+    }
+
+    public static List<Scenario> all() {
+        return List.of(
+                new Scenario("Classes and Objects", Scenarios::classesAndObjects),
+                new Scenario("Encapsulation", Scenarios::encapsulation),
+                new Scenario("Inheritance", Scenarios::inheritance),
+                new Scenario("Polymorphism", Scenarios::polymorphism),
+                new Scenario("Abstraction", Scenarios::abstraction),
+                new Scenario("Additional Concepts", Scenarios::additionalConcepts));
+    }
+
+    // 1. Classes and Objects
+    static void classesAndObjects() {
+        Output.println("\n--- Classes and Objects ---");
+        BasicClass obj = new BasicClass("Example Object");
+        obj.displayName();
+    }
+
+    // 2. Encapsulation
+    static void encapsulation() {
+        Output.println("\n--- Encapsulation ---");
+        EncapsulationExample encap = new EncapsulationExample();
+        encap.setSecret("Hidden Value");
+        Output.println("Accessed via getter: " + encap.getSecret());
+    }
+
+    // 3. Inheritance
+    static void inheritance() {
+        Output.println("\n--- Inheritance ---");
+        ChildClass child = new ChildClass();
+        child.parentMethod(); // Inherited from ParentClass
+        child.childMethod();
+
+        // Multilevel Inheritance
+        GrandChildClass grandChild = new GrandChildClass();
+        grandChild.parentMethod(); // From ParentClass
+        grandChild.childMethod(); // From ChildClass
+        grandChild.grandChildMethod();
+    }
+
+    // 4. Polymorphism
+    static void polymorphism() {
+        Output.println("\n--- Polymorphism (Overriding) ---");
+        PolymorphismChild polyChild = new PolymorphismChild();
+        polyChild.display(); // Overridden method
+
+        // Method Overloading
+        Output.println("\n--- Polymorphism (Overloading) ---");
+        OverloadExample overload = new OverloadExample();
+        Output.println("Sum of two ints: " + overload.add(5, 10));
+        Output.println("Sum of three ints: " + overload.add(5, 10, 15));
+    }
+
+    // 5. Abstraction
+    static void abstraction() {
+        Output.println("\n--- Abstraction (Abstract Class) ---");
+        ConcreteClass concrete = new ConcreteClass();
+        concrete.abstractMethod(); // Implemented
+        concrete.normalMethod(); // Inherited
+
+        // Abstraction with Interface
+        Output.println("\n--- Abstraction (Interface) ---");
+        InterfaceImplementer impl = new InterfaceImplementer();
+        impl.interfaceMethod();
+        Output.println("Static interface method: " + MyInterface.staticMethod());
+    }
+
+    // 6. Additional Concepts (e.g., Constructors, Static, Final)
+    static void additionalConcepts() {
+        Output.println("\n--- Additional Concepts ---");
+        AdditionalConcepts additional = new AdditionalConcepts("Initialized via constructor");
+        additional.display();
+        Output.println("Static variable: " + AdditionalConcepts.staticVar);
+        // additional.finalVar = "Change"; // Error: cannot change final
+    }
+}
@@ -0,0 +1,433 @@
+package com.example.oop.storage;
+
+import com.example.oop.collections.IntCharMap;
+import com.example.oop.encapsulation.GradeListener;
+import com.example.oop.encapsulation.Student;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Durable write-ahead log of grade changes. Attached to students as a
+// GradeListener, every setGrade() that changes a grade is logged before the
+// grade is assigned, and the call returns once the change is on disk. If the
+// append fails, setGrade() throws and the student keeps the old grade.
+//
+// Group commit: appenders copy their record into a shared batch and wait. A
+// single committer thread writes each batch to the current segment and calls
+// force() once for all of it, so concurrent writers share one fsync.
+//
+// Every snapshotInterval records the committer writes the committed grades
+// as a snapshot record file (type 3) named after its last sequence number,
+// starts a new log segment, syncs the directory so both are durable, and only
+// then deletes what the snapshot supersedes. Recovery loads the newest
+// snapshot and replays the log records after it. A torn or corrupt tail is cut
+// off at the last whole record. A corrupt record with intact ones after it, a
+// missing stretch of sequence numbers or a damaged snapshot means acknowledged
+// records were lost, and open() fails instead.
+//
+// Log record layout (20 bytes, little-endian):
+//   0 long seq, 8 int studentId, 12 byte oldGrade, 13 byte newGrade,
+//   14 short reserved, 16 int CRC32C of bytes 0-15
+public class GradeLog implements GradeListener, AutoCloseable {
+    static final int RECORD_SIZE = 20;
+    static final byte SNAPSHOT_TYPE = 3;
+    static final int SNAPSHOT_RECORD_SIZE = 5;
+    private static final int BATCH_RECORDS = 4096;
+    private static final String SEGMENT_PREFIX = "log-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final long snapshotInterval;
+
+    // Committed state; written only by the committer thread
+    private final IntCharMap grades;
+    private FileChannel segment;
+    private long recordsSinceSnapshot;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchReady = lock.newCondition();
+    private final Condition committed = lock.newCondition();
+    private final Condition batchSpace = lock.newCondition();
+    private ByteBuffer filling = newBatch(); // guarded by lock
+    private ByteBuffer writing = newBatch(); // owned by the committer
+    private long lastSeq; // guarded by lock
+    private volatile long durableSeq;
+    private boolean closed; // guarded by lock
+    private IOException failure; // guarded by lock
+    private final Thread committer;
+
+    private GradeLog(Path directory, long snapshotInterval, IntCharMap grades, FileChannel segment, long lastSeq) {
+        this.directory = directory;
+        this.snapshotInterval = snapshotInterval;
+        this.grades = grades;
+        this.segment = segment;
+        this.lastSeq = lastSeq;
+        this.durableSeq = lastSeq;
+        this.committer = Thread.ofPlatform().name("grade-log-committer").daemon().start(this::commitLoop);
+    }
+
+    // Opens the log in the directory, recovering whatever a previous run left there
+    public static GradeLog open(Path directory, long snapshotInterval) throws IOException {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("snapshotInterval must be positive: " + snapshotInterval);
+        }
+        Files.createDirectories(directory);
+        IntCharMap grades = new IntCharMap();
+        long snapshotSeq = loadSnapshot(directory, grades);
+        long lastSeq = snapshotSeq;
+        Path appendTo = null;
+        for (Path path : list(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (sequenceOf(path, SEGMENT_PREFIX, SEGMENT_SUFFIX) > lastSeq + 1) {
+                throw new IOException(path + ": log starts after sequence " + (lastSeq + 1) + "; records are missing");
+            }
+            lastSeq = replay(path, grades, lastSeq);
+            appendTo = path;
+        }
+        boolean created = appendTo == null;
+        if (created) {
+            appendTo = directory.resolve(SEGMENT_PREFIX + (lastSeq + 1) + SEGMENT_SUFFIX);
+        }
+        FileChannel segment = FileChannel.open(appendTo, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        segment.position(segment.size());
+        if (created) {
+            syncDirectory(directory);
+        }
+        return new GradeLog(directory, snapshotInterval, grades, segment, lastSeq);
+    }
+
+    // Logs every later grade change of the student
+    public void track(Student student) {
+        student.addGradeListener(this);
+    }
+
+    public void untrack(Student student) {
+        student.removeGradeListener(this);
+    }
+
+    @Override
+    public void gradeChanged(Student student, char oldGrade, char newGrade) {
+        try {
+            append(student.getStudentId(), oldGrade, newGrade);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Appends one change and returns its sequence number once it is durable
+    public long append(int studentId, char oldGrade, char newGrade) throws IOException {
+        long seq;
+        lock.lock();
+        try {
+            while (!filling.hasRemaining() && !closed && failure == null) {
+                batchSpace.awaitUninterruptibly();
+            }
+            checkOpen();
+            seq = ++lastSeq;
+            encode(filling, seq, studentId, oldGrade, newGrade);
+            batchReady.signal();
+            while (durableSeq < seq && failure == null) {
+                committed.awaitUninterruptibly();
+            }
+            if (durableSeq < seq) {
+                throw new IOException("Grade log commit failed", failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return seq;
+    }
+
+    // Highest sequence number known to be on disk
+    public long durableSequence() {
+        return durableSeq;
+    }
+
+    // Committed grade of the student, or 'N' if none was ever logged
+    public char grade(int studentId) {
+        synchronized (grades) {
+            return grades.get(studentId, 'N');
+        }
+    }
+
+    public int studentCount() {
+        synchronized (grades) {
+            return grades.size();
+        }
+    }
+
+    // Waits for pending appends to commit, then stops the committer
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            batchReady.signal();
+            batchSpace.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segment.close();
+    }
+
+    private void commitLoop() {
+        while (true) {
+            lock.lock();
+            long batchLastSeq;
+            try {
+                while (filling.position() == 0 && !closed) {
+                    batchReady.awaitUninterruptibly();
+                }
+                if (filling.position() == 0) {
+                    return;
+                }
+                ByteBuffer full = filling;
+                filling = writing;
+                writing = full;
+                batchLastSeq = lastSeq;
+                batchSpace.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                commit(writing);
+                lock.lock();
+                try {
+                    durableSeq = batchLastSeq;
+                    committed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                if (recordsSinceSnapshot >= snapshotInterval) {
+                    snapshot();
+                }
+            } catch (IOException e) {
+                lock.lock();
+                try {
+                    failure = e;
+                    committed.signalAll();
+                    batchSpace.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    // Runs on the committer thread: one write and one force per batch
+    private void commit(ByteBuffer batch) throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            segment.write(batch);
+        }
+        segment.force(false);
+        batch.flip(); // back to [0, limit) to apply the records
+        synchronized (grades) {
+            while (batch.hasRemaining()) {
+                batch.position(batch.position() + 8);
+                int studentId = batch.getInt();
+                batch.get(); // old grade
+                grades.put(studentId, (char) batch.get());
+                batch.position(batch.position() + 6);
+                recordsSinceSnapshot++;
+            }
+        }
+        batch.clear();
+    }
+
+    // Runs on the committer thread, which is the only writer of grades
+    private void snapshot() throws IOException {
+        long seq = durableSeq;
+        Path target = directory.resolve(SNAPSHOT_PREFIX + seq + SNAPSHOT_SUFFIX);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (Arena arena = Arena.ofConfined()) {
+            int count = grades.size();
+            MemorySegment file = RecordFiles.create(temp, arena, SNAPSHOT_RECORD_SIZE, count);
+            long[] offset = {RecordFiles.HEADER_SIZE};
+            grades.forEach((studentId, grade) -> {
+                file.set(RecordFiles.INT, offset[0], studentId);
+                file.set(RecordFiles.BYTE, offset[0] + 4, (byte) grade);
+                offset[0] += SNAPSHOT_RECORD_SIZE;
+            });
+            RecordFiles.seal(file, SNAPSHOT_TYPE, SNAPSHOT_RECORD_SIZE, count);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        // Later records go to a fresh segment; everything up to seq is now in the snapshot
+        FileChannel next = FileChannel.open(directory.resolve(SEGMENT_PREFIX + (seq + 1) + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        segment.close();
+        segment = next;
+        recordsSinceSnapshot = 0;
+        // The snapshot's rename and the new segment must survive a crash before
+        // the files they replace are gone
+        syncDirectory(directory);
+        for (Path old : list(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (sequenceOf(old, SEGMENT_PREFIX, SEGMENT_SUFFIX) <= seq) {
+                Files.delete(old);
+            }
+        }
+        for (Path old : list(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (sequenceOf(old, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < seq) {
+                Files.delete(old);
+            }
+        }
+    }
+
+    // Loads the newest snapshot and returns its sequence number, or 0 if there is
+    // none. The log records it covers are already deleted, so a snapshot that
+    // fails validation cannot be worked around and fails the open.
+    private static long loadSnapshot(Path directory, IntCharMap grades) throws IOException {
+        List<Path> snapshots = list(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        Path path = snapshots.get(snapshots.size() - 1);
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment file = RecordFiles.open(path, arena, SNAPSHOT_TYPE, SNAPSHOT_RECORD_SIZE);
+            long count = RecordFiles.count(file);
+            for (long offset = RecordFiles.HEADER_SIZE; count-- > 0; offset += SNAPSHOT_RECORD_SIZE) {
+                grades.put(file.get(RecordFiles.INT, offset), (char) file.get(RecordFiles.BYTE, offset + 4));
+            }
+        }
+        return sequenceOf(path, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+    }
+
+    // Applies the segment's records after afterSeq and returns the last sequence
+    // number applied. Stops at the first torn or corrupt record and truncates the
+    // segment there, unless intact records follow it. Those, like an intact record
+    // that skips ahead, mean acknowledged records are damaged or missing, which
+    // truncating would only make worse.
+    private static long replay(Path path, IntCharMap grades, long afterSeq) throws IOException {
+        long lastSeq = afterSeq;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32C crc = new CRC32C();
+            long position = 0;
+            while (true) {
+                record.clear();
+                while (record.hasRemaining() && channel.read(record, position + record.position()) > 0) {
+                    // keep reading until the record is complete or the file ends
+                }
+                if (record.hasRemaining()) {
+                    break; // end of file, possibly mid-record
+                }
+                crc.reset();
+                crc.update(record.array(), 0, 16);
+                long seq = record.getLong(0);
+                if ((int) crc.getValue() != record.getInt(16)) {
+                    if (intactRecordAfter(channel, position + RECORD_SIZE, lastSeq)) {
+                        throw new IOException(path + ": corrupt record at offset " + position
+                                + " is followed by intact records");
+                    }
+                    break;
+                }
+                if (seq > lastSeq + 1) {
+                    throw new IOException(path + ": expected sequence " + (lastSeq + 1) + " but found " + seq);
+                }
+                if (seq == lastSeq + 1) {
+                    grades.put(record.getInt(8), (char) record.get(13));
+                    lastSeq = seq;
+                }
+                position += RECORD_SIZE;
+            }
+            if (position < channel.size()) {
+                channel.truncate(position);
+                channel.force(true);
+            }
+        }
+        return lastSeq;
+    }
+
+    // True if a record after the given position passes its CRC and continues the
+    // sequence, so the bad record is damage in the middle rather than a torn tail
+    private static boolean intactRecordAfter(FileChannel channel, long position, long lastSeq) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32C crc = new CRC32C();
+        for (; position + RECORD_SIZE <= channel.size(); position += RECORD_SIZE) {
+            record.clear();
+            while (record.hasRemaining() && channel.read(record, position + record.position()) > 0) {
+                // keep reading until the record is complete
+            }
+            crc.reset();
+            crc.update(record.array(), 0, 16);
+            if ((int) crc.getValue() == record.getInt(16) && record.getLong(0) > lastSeq) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Makes new and renamed directory entries durable. Windows cannot open a
+    // directory as a channel; there the entries are as durable as the OS makes them.
+    private static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException e) {
+            // Windows
+        }
+    }
+
+    private static void encode(ByteBuffer batch, long seq, int studentId, char oldGrade, char newGrade) {
+        int start = batch.position();
+        batch.putLong(seq).putInt(studentId).put((byte) oldGrade).put((byte) newGrade).putShort((short) 0);
+        CRC32C crc = new CRC32C();
+        crc.update(batch.array(), start, 16);
+        batch.putInt((int) crc.getValue());
+    }
+
+    private void checkOpen() throws IOException {
+        if (failure != null) {
+            throw new IOException("Grade log commit failed", failure);
+        }
+        if (closed) {
+            throw new IOException("Grade log is closed");
+        }
+    }
+
+    private static ByteBuffer newBatch() {
+        return ByteBuffer.allocate(BATCH_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // Files with the prefix and suffix, in sequence-number order
+    private static List<Path> list(Path directory, String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> matching = new ArrayList<>(files
+                    .filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(prefix) && name.endsWith(suffix);
+                    })
+                    .toList());
+            matching.sort((a, b) -> Long.compare(sequenceOf(a, prefix, suffix), sequenceOf(b, prefix, suffix)));
+            return matching;
+        }
+    }
+
+    private static long sequenceOf(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+}
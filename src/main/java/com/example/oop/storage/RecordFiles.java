@@ -0,0 +1,136 @@
+package com.example.oop.storage;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Shared layout of the fixed-width record files. Every file starts with a
+// 32-byte little-endian header:
+//
+//   0  int   magic "OOPR"
+//   4  short format version
+//   6  byte  record type
+//   7  byte  reserved
+//   8  int   record size in bytes
+//  12  long  record count
+//  20  long  CRC32C of header bytes 0-19 and of every record
+//  28  int   reserved
+//
+// followed by 'count' records of 'record size' bytes each.
+final class RecordFiles {
+    static final int HEADER_SIZE = 32;
+    static final int MAGIC = 0x4F4F5052;
+    static final short VERSION = 1;
+
+    static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+    static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final long CHECKSUM_OFFSET = 20;
+    private static final int CHECKSUM_CHUNK = 64 * 1024;
+    private static final byte NULL_LENGTH = (byte) 0xFF;
+
+    private RecordFiles() {
+    }
+
+    // Creates (or truncates) the file and maps it read-write at its final size
+    static MemorySegment create(Path file, Arena arena, long recordSize, long count) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + recordSize * count, arena);
+        }
+    }
+
+    // Writes the header once every record is in place, then forces the mapping to disk
+    static void seal(MemorySegment file, byte type, int recordSize, long count) {
+        file.set(INT, 0, MAGIC);
+        file.set(SHORT, 4, VERSION);
+        file.set(BYTE, 6, type);
+        file.set(BYTE, 7, (byte) 0);
+        file.set(INT, 8, recordSize);
+        file.set(LONG, 12, count);
+        file.set(LONG, CHECKSUM_OFFSET, checksum(file));
+        file.set(INT, 28, 0);
+        file.force();
+    }
+
+    // Maps an existing file read-only and rejects it unless header, size and checksum all match
+    static MemorySegment open(Path file, Arena arena, byte type, int recordSize) throws IOException {
+        MemorySegment segment;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(file + ": too short for a record file header");
+            }
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        }
+        if (segment.get(INT, 0) != MAGIC) {
+            throw new IOException(file + ": not a record file");
+        }
+        short version = segment.get(SHORT, 4);
+        if (version != VERSION) {
+            throw new IOException(file + ": unsupported format version " + version);
+        }
+        if (segment.get(BYTE, 6) != type || segment.get(INT, 8) != recordSize) {
+            throw new IOException(file + ": unexpected record type or size");
+        }
+        long count = segment.get(LONG, 12);
+        if (count < 0 || segment.byteSize() != HEADER_SIZE + (long) recordSize * count) {
+            throw new IOException(file + ": size does not match record count " + count);
+        }
+        if (segment.get(LONG, CHECKSUM_OFFSET) != checksum(segment)) {
+            throw new IOException(file + ": checksum mismatch, file is corrupted");
+        }
+        return segment;
+    }
+
+    static long count(MemorySegment file) {
+        return file.get(LONG, 12);
+    }
+
+    // Fixed-width string field: one length byte followed by up to fieldSize - 1 UTF-8 bytes.
+    // A length byte of 0xFF stands for null.
+    static void putString(MemorySegment file, long offset, int fieldSize, String value) {
+        if (value == null) {
+            file.set(BYTE, offset, NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > fieldSize - 1) {
+            throw new IllegalArgumentException("'" + value + "' is longer than " + (fieldSize - 1) + " UTF-8 bytes");
+        }
+        file.set(BYTE, offset, (byte) bytes.length);
+        MemorySegment.copy(bytes, 0, file, BYTE, offset + 1, bytes.length);
+    }
+
+    static String getString(MemorySegment file, long offset) {
+        if (file.get(BYTE, offset) == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[Byte.toUnsignedInt(file.get(BYTE, offset))];
+        MemorySegment.copy(file, BYTE, offset + 1, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long checksum(MemorySegment file) {
+        CRC32C crc = new CRC32C();
+        // Checksum APIs cannot read ByteBuffers of shared mappings directly, so the
+        // payload is streamed through a small heap buffer
+        byte[] chunk = new byte[CHECKSUM_CHUNK];
+        MemorySegment.copy(file, BYTE, 0, chunk, 0, (int) CHECKSUM_OFFSET);
+        crc.update(chunk, 0, (int) CHECKSUM_OFFSET);
+        for (long offset = HEADER_SIZE; offset < file.byteSize(); offset += CHECKSUM_CHUNK) {
+            int length = (int) Math.min(CHECKSUM_CHUNK, file.byteSize() - offset);
+            MemorySegment.copy(file, BYTE, offset, chunk, 0, length);
+            crc.update(chunk, 0, length);
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.oop.storage;
+
+import com.example.oop.encapsulation.Student;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.file.Path;
+import java.util.Collection;
+
+// Memory-mapped file of fixed-width Student records. Opening a file maps it and
+// verifies its checksum; the accessors then read fields straight from the
+// mapping without creating Student objects.
+//
+// Record layout (32 bytes): int studentId, byte grade, 27-byte first name field
+public class StudentFile implements AutoCloseable {
+    static final byte RECORD_TYPE = 1;
+    static final int RECORD_SIZE = 32;
+    private static final int NAME_OFFSET = 5;
+    private static final int NAME_FIELD_SIZE = RECORD_SIZE - NAME_OFFSET;
+
+    private final Arena arena;
+    private final MemorySegment file;
+    private final long count;
+
+    private StudentFile(Arena arena, MemorySegment file) {
+        this.arena = arena;
+        this.file = file;
+        this.count = RecordFiles.count(file);
+    }
+
+    public static void write(Path path, Collection<? extends Student> students) throws IOException {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment file = RecordFiles.create(path, arena, RECORD_SIZE, students.size());
+            long offset = RecordFiles.HEADER_SIZE;
+            for (Student student : students) {
+                file.set(RecordFiles.INT, offset, student.getStudentId());
+                file.set(RecordFiles.BYTE, offset + 4, (byte) student.getGrade());
+                RecordFiles.putString(file, offset + NAME_OFFSET, NAME_FIELD_SIZE, student.getFirstName());
+                offset += RECORD_SIZE;
+            }
+            RecordFiles.seal(file, RECORD_TYPE, RECORD_SIZE, students.size());
+        }
+    }
+
+    public static StudentFile open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try {
+            return new StudentFile(arena, RecordFiles.open(path, arena, RECORD_TYPE, RECORD_SIZE));
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return count;
+    }
+
+    public int studentId(long index) {
+        return file.get(RecordFiles.INT, offsetOf(index));
+    }
+
+    public char grade(long index) {
+        return (char) file.get(RecordFiles.BYTE, offsetOf(index) + 4);
+    }
+
+    public String firstName(long index) {
+        return RecordFiles.getString(file, offsetOf(index) + NAME_OFFSET);
+    }
+
+    // Materializes one record as a regular Student
+    public Student toStudent(long index) {
+        Student student = new Student(studentId(index), firstName(index));
+        char grade = grade(index);
+        if (grade != 'N') {
+            student.setGrade(grade);
+        }
+        return student;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long offsetOf(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + count);
+        }
+        return RecordFiles.HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
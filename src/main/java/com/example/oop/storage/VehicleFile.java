@@ -0,0 +1,99 @@
+package com.example.oop.storage;
+
+import com.example.oop.inheritance.Car;
+import com.example.oop.inheritance.Vehicle;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.file.Path;
+import java.util.Collection;
+
+// Memory-mapped file of fixed-width Vehicle and Car records, read lazily in
+// the same way as StudentFile.
+//
+// Record layout (32 bytes): 27-byte brand field, byte kind (0 Vehicle, 1 Car),
+// int numberOfDoors (0 for a plain Vehicle). The kind is stored explicitly
+// because Car accepts any door count, so no door value can mark a non-Car.
+// Type 2 files used the door count as the marker and are no longer readable.
+public class VehicleFile implements AutoCloseable {
+    static final byte RECORD_TYPE = 3;
+    static final int RECORD_SIZE = 32;
+    private static final int BRAND_FIELD_SIZE = 27;
+    private static final int KIND_OFFSET = BRAND_FIELD_SIZE;
+    private static final int DOORS_OFFSET = KIND_OFFSET + 1;
+    private static final byte VEHICLE = 0;
+    private static final byte CAR = 1;
+
+    private final Arena arena;
+    private final MemorySegment file;
+    private final long count;
+
+    private VehicleFile(Arena arena, MemorySegment file) {
+        this.arena = arena;
+        this.file = file;
+        this.count = RecordFiles.count(file);
+    }
+
+    public static void write(Path path, Collection<? extends Vehicle> vehicles) throws IOException {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment file = RecordFiles.create(path, arena, RECORD_SIZE, vehicles.size());
+            long offset = RecordFiles.HEADER_SIZE;
+            for (Vehicle vehicle : vehicles) {
+                RecordFiles.putString(file, offset, BRAND_FIELD_SIZE, vehicle.getBrand());
+                if (vehicle instanceof Car car) {
+                    file.set(RecordFiles.BYTE, offset + KIND_OFFSET, CAR);
+                    file.set(RecordFiles.INT, offset + DOORS_OFFSET, car.getNumberOfDoors());
+                } else {
+                    file.set(RecordFiles.BYTE, offset + KIND_OFFSET, VEHICLE);
+                    file.set(RecordFiles.INT, offset + DOORS_OFFSET, 0);
+                }
+                offset += RECORD_SIZE;
+            }
+            RecordFiles.seal(file, RECORD_TYPE, RECORD_SIZE, vehicles.size());
+        }
+    }
+
+    public static VehicleFile open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try {
+            return new VehicleFile(arena, RecordFiles.open(path, arena, RECORD_TYPE, RECORD_SIZE));
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return count;
+    }
+
+    public String brand(long index) {
+        return RecordFiles.getString(file, offsetOf(index));
+    }
+
+    public boolean isCar(long index) {
+        return file.get(RecordFiles.BYTE, offsetOf(index) + KIND_OFFSET) == CAR;
+    }
+
+    public int numberOfDoors(long index) {
+        return file.get(RecordFiles.INT, offsetOf(index) + DOORS_OFFSET);
+    }
+
+    // Materializes one record as a Car, or as a plain Vehicle if it was written as one
+    public Vehicle toVehicle(long index) {
+        return isCar(index) ? new Car(brand(index), numberOfDoors(index)) : new Vehicle(brand(index));
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long offsetOf(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + count);
+        }
+        return RecordFiles.HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.oop;
+
+import org.junit.jupiter.api.*;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummationTest {
+    @Test
+    @DisplayName("int sums should match a long reference on every path")
+    void testIntPaths() {
+        Random random = new Random(1);
+        for (int length : new int[]{0, 1, 7, 100, 1023, Summation.PARALLEL_THRESHOLD + 12345}) {
+            int[] values = random.ints(length).toArray();
+            long expected = 0;
+            for (int value : values) {
+                expected += value;
+            }
+            assertEquals(expected, Summation.sum(values), "length " + length);
+            assertEquals(expected, Summation.sumScalar(values, 0, length));
+            assertEquals(expected, Summation.sumVector(values, 0, length));
+            if (length > 10) {
+                assertEquals(expected - values[0] - values[length - 1], Summation.sum(values, 1, length - 1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Exact modes should throw only when the final sum does not fit")
+    void testExactModes() {
+        assertEquals(Integer.MAX_VALUE, Summation.sumExact(Integer.MAX_VALUE, 1, -1));
+        assertThrows(ArithmeticException.class, () -> Summation.sumExact(Integer.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Summation.sumExact(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}));
+        assertEquals(10, new OverloadExample().add(1, 2, 3, 4));
+        assertThrows(ArithmeticException.class, () -> new OverloadExample().add(Integer.MIN_VALUE, -1));
+        assertThrows(ArithmeticException.class, () -> new OverloadExample().add(Integer.MAX_VALUE, 1, 0));
+        assertThrows(ArithmeticException.class, () -> new OverloadExample().add(Integer.MAX_VALUE, 1, 0, 0));
+
+        long[] values = new long[1000];
+        Arrays.fill(values, Long.MAX_VALUE);
+        BigInteger expected = BigInteger.ZERO;
+        for (long value : values) {
+            expected = expected.add(BigInteger.valueOf(value));
+        }
+        assertEquals(expected, Summation.sumWide(values));
+        assertThrows(ArithmeticException.class, () -> Summation.sumExact(values));
+
+        long[] cancelling = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 5, Long.MAX_VALUE, Long.MIN_VALUE};
+        assertEquals(2, Summation.sumExact(cancelling));
+    }
+
+    @Test
+    @DisplayName("Large long arrays should sum exactly in parallel")
+    void testParallelLongs() {
+        Random random = new Random(2);
+        long[] values = random.longs(Summation.PARALLEL_THRESHOLD * 2 + 3).toArray();
+        BigInteger expected = BigInteger.ZERO;
+        for (long value : values) {
+            expected = expected.add(BigInteger.valueOf(value));
+        }
+        assertEquals(expected, Summation.sumWide(values));
+    }
+
+    @Test
+    @DisplayName("IntBuffer sums should cover heap, direct and view buffers")
+    void testIntBuffers() {
+        int[] values = new Random(3).ints(1000, -1000, 1000).toArray();
+        long expected = Summation.sum(values, 10, 1000);
+
+        IntBuffer heap = IntBuffer.wrap(values);
+        heap.position(10);
+        assertEquals(expected, Summation.sum(heap));
+        assertEquals(10, heap.position());
+
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            IntBuffer direct = ByteBuffer.allocateDirect(values.length * 4).order(order).asIntBuffer();
+            direct.put(values).position(10);
+            assertEquals(expected, Summation.sum(direct));
+            assertEquals((int) expected, Summation.sumExact(direct));
+        }
+        IntBuffer view = ByteBuffer.allocate(values.length * 4).asIntBuffer().put(values).position(10);
+        assertEquals(expected, Summation.sum(view));
+    }
+
+    @Test
+    @DisplayName("Scalar 128-bit fallback should match BigInteger")
+    void testScalarWideFallback() {
+        long[] values = new Random(5).longs(1001).toArray();
+        BigInteger expected = BigInteger.ZERO;
+        for (long value : values) {
+            expected = expected.add(BigInteger.valueOf(value));
+        }
+        long[] wide = new long[2];
+        Summation.addWide128Scalar(values, 0, values.length, wide);
+        assertEquals(expected, BigInteger.valueOf(wide[0]).shiftLeft(64).add(new BigInteger(Long.toUnsignedString(wide[1]))));
+    }
+}
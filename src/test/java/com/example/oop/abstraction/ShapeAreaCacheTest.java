@@ -0,0 +1,116 @@
+package com.example.oop.abstraction;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShapeAreaCacheTest {
+    @Test
+    @DisplayName("Circles with the same radius should be equal")
+    void testCircleEquality() {
+        assertEquals(new Circle(2.5), new Circle(2.5));
+        assertEquals(new Circle(2.5).hashCode(), new Circle(2.5).hashCode());
+        assertNotEquals(new Circle(2.5), new Circle(3));
+    }
+
+    @Test
+    @DisplayName("Cache should count hits and misses by value")
+    void testHitsAndMisses() {
+        ShapeAreaCache cache = new ShapeAreaCache(10);
+        assertEquals(Math.PI * 4, cache.areaOf(new Circle(2)), 1e-12);
+        assertEquals(Math.PI * 4, cache.areaOf(new Circle(2)), 1e-12);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Frequently used shapes should survive a scan of one-off shapes")
+    void testScanResistance() {
+        ShapeAreaCache cache = new ShapeAreaCache(100);
+        Circle hot = new Circle(1);
+        cache.areaOf(hot);
+        cache.areaOf(hot); // promoted to the protected segment
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.areaOf(new Circle(1_000 + i));
+        }
+        assertEquals(100, cache.size());
+        assertEquals(10_000 + 1 - 100, cache.evictionCount());
+
+        long hitsBefore = cache.hitCount();
+        cache.areaOf(new Circle(1));
+        assertEquals(hitsBefore + 1, cache.hitCount());
+    }
+
+    @Test
+    @DisplayName("A single-entry cache should survive repeated hits and then a miss")
+    void testSingleEntry() {
+        ShapeAreaCache cache = new ShapeAreaCache(1);
+        cache.areaOf(new Circle(1));
+        cache.areaOf(new Circle(1));
+        cache.areaOf(new Circle(1));
+        assertEquals(Math.PI * 4, cache.areaOf(new Circle(2)));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertEquals(Math.PI * 9, cache.areaOf(new Circle(3)));
+        assertEquals(2, cache.hitCount());
+        assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("Cache should stay bounded under concurrent use")
+    void testConcurrentAccess() throws Exception {
+        ShapeAreaCache cache = new ShapeAreaCache(64);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    double radius = (i * 31 + seed) % 128;
+                    assertEquals(Math.PI * radius * radius, cache.areaOf(new Circle(radius)));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(cache.size() <= 64);
+        assertEquals(8 * 20_000, cache.hitCount() + cache.missCount());
+    }
+
+    @Test
+    @DisplayName("Hits racing with clear() should leave the cache usable")
+    void testClearDuringHits() throws Exception {
+        ShapeAreaCache cache = new ShapeAreaCache(32);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(5)) {
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        double radius = i % 40;
+                        assertEquals(Math.PI * radius * radius, cache.areaOf(new Circle(radius)));
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    cache.clear();
+                    Thread.yield();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        for (int i = 0; i < 1_000; i++) {
+            cache.areaOf(new Circle(1_000 + i));
+        }
+        assertEquals(32, cache.size());
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.oop.abstraction;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShapeAreaIndexTest {
+    private static Shape square(double side) {
+        return new Shape() {
+            @Override
+            public double calculateArea() {
+                return side * side;
+            }
+        };
+    }
+
+    private static List<Shape> randomShapes(int count, long seed) {
+        Random random = new Random(seed);
+        List<Shape> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shapes.add(i % 4 == 0 ? square(random.nextInt(100)) : new Circle(random.nextInt(50)));
+        }
+        return shapes;
+    }
+
+    private static List<Shape> scan(List<Shape> shapes, double min, double max) {
+        List<Shape> result = new ArrayList<>();
+        for (Shape shape : shapes) {
+            double area = shape.calculateArea();
+            if (area >= min && area <= max) {
+                result.add(shape);
+            }
+        }
+        result.sort(Comparator.comparingDouble(Shape::calculateArea));
+        return result;
+    }
+
+    private static List<Double> areas(List<? extends Shape> shapes) {
+        return shapes.stream().map(Shape::calculateArea).toList();
+    }
+
+    @Test
+    @DisplayName("Range queries should match a linear scan, smallest area first")
+    void testRangeMatchesScan() {
+        List<Shape> shapes = randomShapes(50_000, 42); // large enough for the parallel sort
+        ShapeAreaIndex<Shape> index = ShapeAreaIndex.bulkLoad(shapes);
+        assertEquals(shapes.size(), index.size());
+
+        List<Shape> expected = scan(shapes, 100, 2_000);
+        List<Shape> actual = index.range(100, 2_000);
+        assertEquals(areas(expected), areas(actual));
+        assertEquals(expected.size(), index.countInRange(100, 2_000));
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        assertTrue(index.range(10, 5).isEmpty());
+        assertEquals(0, index.countInRange(10, 5));
+    }
+
+    @Test
+    @DisplayName("Buffered inserts should be visible before and after they are merged")
+    void testIncrementalInsert() {
+        List<Shape> shapes = randomShapes(5_000, 7);
+        ShapeAreaIndex<Shape> index = new ShapeAreaIndex<>(64);
+        List<Shape> added = new ArrayList<>();
+        for (Shape shape : shapes) {
+            index.add(shape);
+            added.add(shape);
+            if (added.size() % 997 == 0) {
+                assertEquals(areas(scan(added, 50, 500)), areas(index.range(50, 500)));
+            }
+        }
+        assertEquals(areas(scan(shapes, 0, 10_000)), areas(index.range(0, 10_000)));
+        index.flush();
+        assertEquals(areas(scan(shapes, 0, 10_000)), areas(index.range(0, 10_000)));
+    }
+
+    @Test
+    @DisplayName("Shapes with equal areas should stay in insertion order across merges")
+    void testEqualAreasKeepInsertionOrder() {
+        ShapeAreaIndex<Shape> index = new ShapeAreaIndex<>(4);
+        List<Shape> added = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Shape shape = i % 3 == 0 ? square(2) : square(1);
+            index.add(shape);
+            added.add(shape);
+        }
+        List<Shape> more = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            more.add(square(1));
+        }
+        index.addAll(more);
+        added.addAll(more);
+        index.flush();
+        List<Shape> expected = new ArrayList<>(added);
+        expected.sort(Comparator.comparingDouble(Shape::calculateArea)); // stable
+        assertEquals(expected, index.range(0, 10));
+    }
+
+    @Test
+    @DisplayName("Largest-N should return the biggest areas in descending order")
+    void testLargest() {
+        List<Shape> shapes = randomShapes(3_000, 3);
+        ShapeAreaIndex<Shape> index = ShapeAreaIndex.bulkLoad(shapes.subList(0, 2_000));
+        for (Shape shape : shapes.subList(2_000, 3_000)) {
+            index.add(shape);
+        }
+        List<Double> expected = shapes.stream().map(Shape::calculateArea)
+                .sorted(Comparator.reverseOrder()).limit(25).toList();
+        assertEquals(expected, areas(index.largest(25)));
+        assertEquals(3_000, index.largest(5_000).size());
+        assertTrue(index.largest(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Typed range queries should return only that shape type")
+    void testTypedRange() {
+        ShapeAreaIndex<Shape> index = new ShapeAreaIndex<>();
+        index.addAll(List.of(new Circle(1), square(2), new Circle(3), square(1)));
+        List<Circle> circles = index.range(Circle.class, 0, 10);
+        assertEquals(1, circles.size());
+        assertEquals(1.0, circles.get(0).getRadius());
+        assertEquals(3, index.range(0, 10).size());
+    }
+
+    @Test
+    @DisplayName("Shapes without a comparable area should be rejected")
+    void testNaNArea() {
+        ShapeAreaIndex<Shape> index = new ShapeAreaIndex<>();
+        assertThrows(IllegalArgumentException.class, () -> index.add(new Circle(Double.NaN)));
+        assertEquals(0, index.size());
+    }
+}
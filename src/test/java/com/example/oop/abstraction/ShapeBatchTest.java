@@ -0,0 +1,70 @@
+package com.example.oop.abstraction;
+
+import org.junit.jupiter.api.*;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShapeBatchTest {
+    @Test
+    @DisplayName("Scalar and vector paths should match Circle.calculateArea exactly")
+    void testBatchMatchesCircle() {
+        Random random = new Random(42);
+        double[] radii = new double[1001];
+        for (int i = 0; i < radii.length; i++) {
+            radii[i] = random.nextDouble() * 1000;
+        }
+        double[] scalar = new double[radii.length];
+        double[] vector = new double[radii.length];
+        ShapeBatch.areasScalar(radii, scalar);
+        ShapeBatch.areas(radii, vector);
+
+        for (int i = 0; i < radii.length; i++) {
+            double expected = new Circle(radii[i]).calculateArea();
+            assertEquals(expected, scalar[i], Math.ulp(expected));
+            assertEquals(expected, vector[i], Math.ulp(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("Batch should keep insertion order across shape types")
+    void testMixedShapes() {
+        Shape square = new Shape() {
+            @Override
+            public double calculateArea() {
+                return 4.0;
+            }
+        };
+        ShapeBatch batch = new ShapeBatch();
+        batch.addAll(List.of(new Circle(1), square, new Circle(2)));
+
+        double[] out = new double[batch.size()];
+        batch.areas(out);
+        assertArrayEquals(new double[]{Math.PI, 4.0, Math.PI * 4}, out, 1e-12);
+        assertEquals(Math.PI * 5 + 4.0, batch.totalArea(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Batch should stay correct as it grows between areas() calls")
+    void testGrowBetweenCalls() {
+        Shape unit = new Shape() {
+            @Override
+            public double calculateArea() {
+                return 1.0;
+            }
+        };
+        ShapeBatch batch = new ShapeBatch();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 20; i++) {
+                batch.add(i % 5 == 0 ? unit : new Circle(i));
+            }
+            double[] out = new double[batch.size()];
+            batch.areas(out);
+            for (int i = 0; i < out.length; i++) {
+                int n = i % 20;
+                double expected = n % 5 == 0 ? 1.0 : new Circle(n).calculateArea();
+                assertEquals(expected, out[i], 0.0, "shape " + i);
+            }
+        }
+    }
+}
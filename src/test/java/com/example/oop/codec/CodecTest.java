@@ -0,0 +1,122 @@
+package com.example.oop.codec;
+
+import com.example.oop.abstraction.Circle;
+import com.example.oop.abstraction.CircleCodec;
+import com.example.oop.encapsulation.Student;
+import com.example.oop.encapsulation.StudentCodec;
+import com.example.oop.inheritance.Car;
+import com.example.oop.inheritance.CarCodec;
+import com.example.oop.inheritance.Vehicle;
+import com.example.oop.inheritance.VehicleCodec;
+import org.junit.jupiter.api.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecTest {
+    private static <T> T roundTrip(Codec<T> codec, T value, ByteBuffer buffer) {
+        buffer.clear();
+        codec.encode(value, buffer);
+        assertEquals(codec.encodedSize(value), buffer.position());
+        buffer.flip();
+        T decoded = codec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+
+    @Test
+    @DisplayName("Student should encode as varint id, UTF-8 name and one grade byte")
+    void testStudent() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        Student student = new Student(300, "Zoë");
+        student.setGrade('B');
+
+        Student copy = roundTrip(StudentCodec.INSTANCE, student, buffer);
+        assertEquals(300, copy.getStudentId());
+        assertEquals("Zoë", copy.getFirstName());
+        assertEquals('B', copy.getGrade());
+        // id 300 zigzags to 600: 2 bytes; "Zoë" is 4 UTF-8 bytes plus 1 length byte; 1 grade byte
+        assertEquals(8, StudentCodec.INSTANCE.encodedSize(student));
+
+        Student ungraded = roundTrip(StudentCodec.INSTANCE, new Student(-1, null), buffer);
+        assertEquals(-1, ungraded.getStudentId());
+        assertNull(ungraded.getFirstName());
+        assertEquals('N', ungraded.getGrade());
+    }
+
+    @Test
+    @DisplayName("Vehicle codec should keep cars and plain vehicles apart")
+    void testVehicleSubtypes() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        Vehicle car = roundTrip(VehicleCodec.INSTANCE, new Car("Toyota", 4), buffer);
+        assertEquals(new Car("Toyota", 4), car);
+        Vehicle vehicle = roundTrip(VehicleCodec.INSTANCE, new Vehicle("Vespa"), buffer);
+        assertEquals(new Vehicle("Vespa"), vehicle);
+        assertFalse(vehicle instanceof Car);
+
+        // The subtype tag is the only difference from the Car codec's own encoding
+        assertEquals(CarCodec.INSTANCE.encodedSize(new Car("Toyota", 4)) + 1,
+                VehicleCodec.INSTANCE.encodedSize(new Car("Toyota", 4)));
+        assertThrows(IllegalArgumentException.class, () -> VehicleCodec.INSTANCE.decode(ByteBuffer.wrap(new byte[]{7})));
+
+        // Car declares tag 1; the tag is part of the wire format
+        ByteBuffer tagged = ByteBuffer.allocate(64);
+        VehicleCodec.INSTANCE.encode(new Car("Toyota", 4), tagged);
+        assertEquals(1, tagged.get(0));
+    }
+
+    @Test
+    @DisplayName("Circle radius should survive regardless of buffer byte order")
+    void testCircleByteOrder() {
+        ByteBuffer big = ByteBuffer.allocate(8);
+        CircleCodec.INSTANCE.encode(new Circle(2.5), big);
+        big.flip();
+        assertEquals(2.5, CircleCodec.INSTANCE.decode(big.order(ByteOrder.LITTLE_ENDIAN)).getRadius());
+    }
+
+    @Test
+    @DisplayName("Many records should share one reusable buffer")
+    void testReusableBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(16 * 1024);
+        for (int i = 0; i < 1_000; i++) {
+            StudentCodec.INSTANCE.encode(new Student(i, "Student" + i), buffer);
+        }
+        buffer.flip();
+        for (int i = 0; i < 1_000; i++) {
+            Student student = StudentCodec.INSTANCE.decode(buffer);
+            assertEquals(i, student.getStudentId());
+            assertEquals("Student" + i, student.getFirstName());
+        }
+        assertFalse(buffer.hasRemaining());
+        assertThrows(BufferOverflowException.class,
+                () -> StudentCodec.INSTANCE.encode(new Student(1, "Alice"), ByteBuffer.allocate(4)));
+    }
+
+    @Test
+    @DisplayName("Wire encodings should match their predicted sizes")
+    void testWire() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        for (int value : new int[]{0, 1, -1, 63, -64, 64, 8191, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            buffer.clear();
+            Wire.putSignedVarint(buffer, value);
+            assertEquals(Wire.signedVarintSize(value), buffer.position());
+            buffer.flip();
+            assertEquals(value, Wire.getSignedVarint(buffer));
+        }
+        for (long value : new long[]{0, -1, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 40}) {
+            buffer.clear();
+            Wire.putSignedVarlong(buffer, value);
+            assertEquals(Wire.signedVarlongSize(value), buffer.position());
+            buffer.flip();
+            assertEquals(value, Wire.getSignedVarlong(buffer));
+        }
+        String text = "aé中😀";
+        buffer.clear();
+        Wire.putString(buffer, text);
+        assertEquals(Wire.stringSize(text), buffer.position());
+        buffer.flip();
+        assertEquals(text, Wire.getString(buffer));
+        assertThrows(IllegalArgumentException.class, () -> Wire.putChar8(ByteBuffer.allocate(1), '中'));
+    }
+}
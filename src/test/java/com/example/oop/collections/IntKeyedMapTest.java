@@ -0,0 +1,106 @@
+package com.example.oop.collections;
+
+import com.example.oop.encapsulation.Student;
+import org.junit.jupiter.api.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntKeyedMapTest {
+    @Test
+    @DisplayName("IntObjectMap should look up students by id")
+    void testStudentLookup() {
+        IntObjectMap<Student> students = new IntObjectMap<>();
+        students.put(101, new Student(101, "Alice"));
+        students.put(102, new Student(102, "Bob"));
+
+        assertEquals("Alice", students.get(101).getFirstName());
+        assertNull(students.get(103));
+        assertEquals("Bob", students.remove(102).getFirstName());
+        assertFalse(students.containsKey(102));
+        assertEquals(1, students.size());
+    }
+
+    @Test
+    @DisplayName("Resizing should be spread across later operations")
+    void testIncrementalResize() {
+        IntCharMap grades = new IntCharMap(4);
+        boolean sawResize = false;
+        for (int id = 0; id < 10_000; id++) {
+            grades.put(id, 'A');
+            sawResize |= grades.isResizing();
+            // Every entry stays reachable while old and new tables coexist
+            assertEquals('A', grades.get(id / 2, 'N'));
+        }
+        assertTrue(sawResize);
+        for (int i = 0; i < 100 && grades.isResizing(); i++) {
+            grades.put(0, 'B');
+        }
+        assertFalse(grades.isResizing());
+        assertEquals(10_000, grades.size());
+    }
+
+    @Test
+    @DisplayName("IntObjectMap should match HashMap under random operations")
+    void testIntObjectMapMatchesHashMap() {
+        for (long seed = 0; seed < 5; seed++) {
+            Random random = new Random(seed);
+            IntObjectMap<String> map = new IntObjectMap<>(1);
+            Map<Integer, String> expected = new HashMap<>();
+            for (int i = 0; i < 100_000; i++) {
+                int key = randomKey(random, i);
+                String value = Integer.toString(random.nextInt(1000));
+                switch (random.nextInt(4)) {
+                    case 0, 1 -> assertEquals(expected.put(key, value), map.put(key, value));
+                    case 2 -> assertEquals(expected.remove(key), map.remove(key));
+                    default -> {
+                        assertEquals(expected.get(key), map.get(key));
+                        assertEquals(expected.containsKey(key), map.containsKey(key));
+                    }
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            Map<Integer, String> iterated = new HashMap<>();
+            map.forEach((key, value) -> assertNull(iterated.put(key, value), "duplicate key " + key));
+            assertEquals(expected, iterated);
+        }
+    }
+
+    @Test
+    @DisplayName("IntCharMap should match HashMap under random operations")
+    void testIntCharMapMatchesHashMap() {
+        char[] grades = {'A', 'B', 'C', 'D', 'F'};
+        for (long seed = 0; seed < 5; seed++) {
+            Random random = new Random(seed);
+            IntCharMap map = new IntCharMap(1);
+            Map<Integer, Character> expected = new HashMap<>();
+            for (int i = 0; i < 100_000; i++) {
+                int key = randomKey(random, i);
+                char grade = grades[random.nextInt(grades.length)];
+                switch (random.nextInt(4)) {
+                    case 0, 1 -> assertEquals(orDefault(expected.put(key, grade)), map.put(key, grade, 'N'));
+                    case 2 -> assertEquals(orDefault(expected.remove(key)), map.remove(key, 'N'));
+                    default -> assertEquals(expected.getOrDefault(key, 'N'), map.get(key, 'N'));
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            Map<Integer, Character> iterated = new HashMap<>();
+            map.forEach((key, value) -> assertNull(iterated.put(key, value), "duplicate key " + key));
+            assertEquals(expected, iterated);
+        }
+    }
+
+    // Mostly a growing key range (forces resizes), sometimes negative or colliding keys
+    private static int randomKey(Random random, int step) {
+        return switch (random.nextInt(10)) {
+            case 0 -> -random.nextInt(100);
+            case 1 -> random.nextInt(64) << 20;
+            default -> random.nextInt(step / 2 + 10);
+        };
+    }
+
+    private static char orDefault(Character value) {
+        return value == null ? 'N' : value;
+    }
+}
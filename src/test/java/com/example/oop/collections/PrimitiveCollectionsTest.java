@@ -0,0 +1,63 @@
+package com.example.oop.collections;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveCollectionsTest {
+    @Test
+    @DisplayName("IntArrayList should behave like ArrayList<Integer>")
+    void testIntArrayList() {
+        IntArrayList list = new IntArrayList(1);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            list.add(999 - i);
+            expected.add(999 - i);
+        }
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected.get(10), list.get(10));
+        assertEquals(5, list.set(994, 42));
+        assertTrue(list.contains(42));
+
+        list.sort();
+        assertEquals(0, list.get(0));
+        assertEquals(999, list.removeLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(999));
+    }
+
+    @Test
+    @DisplayName("IntIntMap should match HashMap under random operations")
+    void testIntIntMapMatchesHashMap() {
+        Random random = new Random(3);
+        IntIntMap map = new IntIntMap(1);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            // Small key range forces long probe runs, collisions and removals; includes key 0
+            int key = random.nextInt(2_000) - 100;
+            int value = random.nextInt();
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    Integer previous = expected.put(key, value);
+                    assertEquals(previous == null ? -1 : previous, map.put(key, value, -1));
+                }
+                case 1 -> {
+                    Integer previous = expected.remove(key);
+                    assertEquals(previous == null ? -1 : previous, map.remove(key, -1));
+                }
+                default -> {
+                    assertEquals(expected.getOrDefault(key, -1), map.get(key, -1));
+                    assertEquals(expected.containsKey(key), map.containsKey(key));
+                }
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<Integer, Integer> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertEquals(expected, iterated);
+    }
+}
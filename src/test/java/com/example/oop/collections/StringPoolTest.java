@@ -0,0 +1,80 @@
+package com.example.oop.collections;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringPoolTest {
+    @Test
+    @DisplayName("Pool should give equal strings one stable handle")
+    void testHandlesAreStable() {
+        StringPool pool = new StringPool();
+        Random random = new Random(3);
+        Map<String, Integer> handles = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            String s = "name-" + random.nextInt(5_000);
+            int handle = pool.intern(new StringBuilder(s));
+            Integer previous = handles.putIfAbsent(s, handle);
+            assertEquals(previous == null ? handle : previous, handle);
+        }
+        assertEquals(handles.size(), pool.size());
+        handles.forEach((s, handle) -> {
+            assertEquals(s, pool.get(handle));
+            assertEquals(handle, pool.find(s));
+            assertTrue(pool.contentEquals(handle, s));
+        });
+        assertEquals(StringPool.NULL, pool.find("missing"));
+        assertEquals(StringPool.NULL, pool.intern(null));
+        assertNull(pool.get(StringPool.NULL));
+    }
+
+    @Test
+    @DisplayName("Pool should store non-Latin-1, empty and oversized strings")
+    void testEncodings() {
+        StringPool pool = new StringPool();
+        String wide = "Zoë 名前 ✓";
+        String latin = "José";
+        String huge = "x".repeat(100_000) + "€";
+        List<String> values = List.of(wide, latin, "", huge, "after");
+        List<Integer> handles = new ArrayList<>();
+        for (String value : values) {
+            handles.add(pool.intern(value));
+        }
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i), pool.get(handles.get(i)));
+        }
+        assertFalse(pool.contentEquals(handles.get(1), "Jose"));
+        assertEquals(4 + 0 + wide.length() * 2 + huge.length() * 2 + 5, pool.arenaBytes());
+    }
+
+    @Test
+    @DisplayName("Concurrent interning should agree on handles and keep reads consistent")
+    void testConcurrentIntern() throws Exception {
+        StringPool pool = new StringPool();
+        List<Future<int[]>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    int[] handles = new int[10_000];
+                    for (int i = 0; i < handles.length; i++) {
+                        handles[i] = pool.intern("s" + i);
+                        assertEquals("s" + i, pool.get(handles[i]));
+                    }
+                    return handles;
+                }));
+            }
+        }
+        int[] first = results.get(0).get();
+        for (Future<int[]> result : results) {
+            assertArrayEquals(first, result.get());
+        }
+        assertEquals(10_000, pool.size());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.oop.collections;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeakInternerTest {
+    @Test
+    @DisplayName("Interner should return the first equal instance it saw")
+    void testCanonicalInstance() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String first = new String("value");
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(new String("value")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    @DisplayName("Interner should drop values that are no longer referenced")
+    void testUnreferencedValuesAreDropped() throws InterruptedException {
+        WeakInterner<String> interner = new WeakInterner<>();
+        List<String> kept = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String value = interner.intern(new String("v" + i));
+            if (i % 10 == 0) {
+                kept.add(value);
+            }
+        }
+        for (int attempt = 0; attempt < 20 && interner.size() > kept.size(); attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(kept.size(), interner.size());
+        for (String value : kept) {
+            assertSame(value, interner.intern(new String(value)));
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.oop.dispatch;
+
+import com.example.oop.ChildClass;
+import com.example.oop.GrandChildClass;
+import com.example.oop.ParentClass;
+import com.example.oop.PolymorphismChild;
+import com.example.oop.PolymorphismParent;
+import com.example.oop.output.Output;
+import com.example.oop.output.OutputSink;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventPublisherTest {
+    private ExecutorService executor;
+    private OutputSink originalSink;
+    private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+    // Records every batch and requests only when told to
+    static class RecordingSubscriber implements Flow.Subscriber<EventBatch<Object>> {
+        final List<EventBatch<Object>> batches = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(1);
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(EventBatch<Object> batch) {
+            batches.add(batch);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            finished.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            finished.countDown();
+        }
+
+        List<Object> events() {
+            List<Object> events = new ArrayList<>();
+            synchronized (batches) {
+                batches.forEach(batch -> events.addAll(batch.events()));
+            }
+            return events;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        originalSink = Output.setSink(lines::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Output.setSink(originalSink);
+        executor.shutdownNow();
+    }
+
+    private RecordingSubscriber subscribe(EventPublisher<Object> publisher) throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertTrue(subscriber.subscribed.await(5, TimeUnit.SECONDS));
+        return subscriber;
+    }
+
+    @Test
+    @DisplayName("Consecutive events of the same class should arrive as one batch")
+    void testBatching() throws InterruptedException {
+        EventPublisher<Object> publisher = new EventPublisher<>(executor, 16, 3, OverflowPolicy.BLOCK);
+        RecordingSubscriber subscriber = subscribe(publisher);
+        PolymorphismParent parent = new PolymorphismParent();
+        PolymorphismChild child = new PolymorphismChild();
+        for (Object event : List.of(parent, parent, child, parent, parent, parent, parent)) {
+            publisher.offer(event);
+        }
+        publisher.close();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.finished.await(5, TimeUnit.SECONDS));
+
+        List<Integer> sizes = subscriber.batches.stream().map(batch -> batch.events().size()).toList();
+        assertEquals(List.of(2, 1, 3, 1), sizes); // runs are cut at maxBatch too
+        assertEquals(PolymorphismChild.class, subscriber.batches.get(1).type());
+        assertNull(subscriber.error);
+        assertEquals(0, publisher.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("DROP should discard new events and LATEST the oldest when the buffer is full")
+    void testDropAndLatest() throws InterruptedException {
+        for (OverflowPolicy policy : List.of(OverflowPolicy.DROP, OverflowPolicy.LATEST)) {
+            EventPublisher<Object> publisher = new EventPublisher<>(executor, 4, 100, policy);
+            RecordingSubscriber subscriber = subscribe(publisher);
+            List<ParentClass> events = new ArrayList<>();
+            int accepted = 0;
+            for (int i = 0; i < 10; i++) {
+                ParentClass event = new ParentClass();
+                events.add(event);
+                accepted += publisher.offer(event) ? 1 : 0;
+            }
+            publisher.close();
+            subscriber.subscription.request(1);
+            assertTrue(subscriber.finished.await(5, TimeUnit.SECONDS));
+
+            assertEquals(6, publisher.droppedCount());
+            assertEquals(4, publisher.maxQueueDepth());
+            List<ParentClass> expected = policy == OverflowPolicy.DROP ? events.subList(0, 4) : events.subList(6, 10);
+            assertEquals(expected, subscriber.events());
+            assertEquals(policy == OverflowPolicy.DROP ? 4 : 10, accepted);
+        }
+    }
+
+    @Test
+    @DisplayName("BLOCK should hold the producer back without losing or reordering events")
+    void testBlock() throws Exception {
+        EventPublisher<Object> publisher = new EventPublisher<>(executor, 4, 2, OverflowPolicy.BLOCK);
+        RecordingSubscriber subscriber = subscribe(publisher);
+        List<Object> events = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            events.add(i % 3 == 0 ? new ChildClass() : new GrandChildClass());
+        }
+        Thread producer = Thread.ofPlatform().start(() -> {
+            events.forEach(publisher::offer);
+            publisher.close();
+        });
+        while (!subscriber.finished.await(1, TimeUnit.MILLISECONDS)) {
+            subscriber.subscription.request(1);
+        }
+        producer.join();
+        assertEquals(events, subscriber.events());
+        assertEquals(0, publisher.droppedCount());
+        assertTrue(publisher.maxQueueDepth() <= 4);
+    }
+
+    @Test
+    @DisplayName("A non-positive request should fail the subscription")
+    void testInvalidRequest() throws InterruptedException {
+        EventPublisher<Object> publisher = new EventPublisher<>(executor, 4, 4, OverflowPolicy.DROP);
+        RecordingSubscriber subscriber = subscribe(publisher);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.finished.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertEquals(0, publisher.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("A rejected drain task should fail the subscription instead of wedging it")
+    void testRejectedExecution() throws InterruptedException {
+        ExecutorService stopped = Executors.newSingleThreadExecutor();
+        stopped.shutdown();
+        EventPublisher<Object> publisher = new EventPublisher<>(stopped, 4, 4, OverflowPolicy.DROP);
+        RecordingSubscriber subscriber = subscribe(publisher);
+        assertTrue(subscriber.finished.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, subscriber.error);
+        assertEquals(0, publisher.subscriberCount());
+        assertTrue(publisher.offer("ignored"));
+    }
+
+    @Test
+    @DisplayName("A throwing onSubscribe should fail that subscription only")
+    void testThrowingOnSubscribe() throws InterruptedException {
+        EventPublisher<Object> publisher = new EventPublisher<>(executor, 4, 4, OverflowPolicy.DROP);
+        RecordingSubscriber faulty = new RecordingSubscriber() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                super.onSubscribe(subscription);
+                throw new IllegalStateException("broken subscriber");
+            }
+        };
+        publisher.subscribe(faulty);
+        assertTrue(faulty.finished.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, faulty.error);
+
+        RecordingSubscriber healthy = subscribe(publisher);
+        healthy.subscription.request(1);
+        publisher.offer("event");
+        publisher.close();
+        assertTrue(healthy.finished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("event"), healthy.events());
+        assertTrue(faulty.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Display subscriber should call the demo methods of every event")
+    void testDisplaySubscriber() throws InterruptedException {
+        EventPublisher<Object> publisher = new EventPublisher<>(executor, 64, 16, OverflowPolicy.BLOCK);
+        DisplayEventSubscriber subscriber = new DisplayEventSubscriber(4);
+        publisher.subscribe(subscriber);
+        publisher.offer(new PolymorphismParent());
+        publisher.offer(new PolymorphismChild());
+        publisher.offer(new GrandChildClass());
+        publisher.offer("not an event type");
+        publisher.close();
+        assertTrue(subscriber.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(4, subscriber.eventCount());
+        assertEquals(5, subscriber.callCount()); // 1 + 1 + 3
+        assertEquals(1, subscriber.unhandledCount());
+        assertEquals(List.of("Display from PolymorphismParent", "Overridden display from PolymorphismChild",
+                "Method from ParentClass", "Method from ChildClass", "Method from GrandChildClass"), lines);
+    }
+
+    // Bursts of events against a subscriber that is slower than the producer.
+    // EventPublisherBenchmark measures the throughput of the same setup.
+    @Test
+    @DisplayName("Bursty load should stay within the buffer bound under every policy")
+    void testBurstyLoad() throws InterruptedException {
+        Object[] kinds = {new PolymorphismParent(), new PolymorphismChild(), new ParentClass(),
+                new ChildClass(), new GrandChildClass()};
+        int capacity = 256;
+        int bursts = 50;
+        int burstSize = 2_000;
+        for (OverflowPolicy policy : OverflowPolicy.values()) {
+            EventPublisher<Object> publisher = new EventPublisher<>(executor, capacity, 64, policy);
+            DisplayEventSubscriber subscriber = new DisplayEventSubscriber(8);
+            subscriber.handlers().register(ChildClass.class, child -> {
+                Thread.onSpinWait(); // a little slower than the rest
+                return InheritanceDispatch.callAll(child);
+            });
+            publisher.subscribe(subscriber);
+
+            for (int burst = 0; burst < bursts; burst++) {
+                for (int i = 0; i < burstSize; i++) {
+                    // runs of ten same-class events, so batching has something to group
+                    publisher.offer(kinds[(i / 10) % kinds.length]);
+                }
+                Thread.sleep(1); // quiet gap between bursts
+            }
+            publisher.close();
+            assertTrue(subscriber.awaitTermination(30, TimeUnit.SECONDS));
+
+            long offered = (long) bursts * burstSize;
+            assertNull(subscriber.error());
+            assertTrue(publisher.maxQueueDepth() <= capacity);
+            assertEquals(offered, subscriber.eventCount() + publisher.droppedCount());
+            if (policy == OverflowPolicy.BLOCK) {
+                assertEquals(0, publisher.droppedCount());
+            }
+            assertTrue(subscriber.batchCount() < subscriber.eventCount());
+        }
+    }
+}
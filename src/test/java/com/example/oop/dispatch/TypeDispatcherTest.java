@@ -0,0 +1,58 @@
+package com.example.oop.dispatch;
+
+import com.example.oop.ChildClass;
+import com.example.oop.GrandChildClass;
+import com.example.oop.ParentClass;
+import com.example.oop.inheritance.Car;
+import com.example.oop.inheritance.Vehicle;
+import com.example.oop.output.Output;
+import org.junit.jupiter.api.*;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeDispatcherTest {
+    static class GreatGrandChild extends GrandChildClass implements Serializable {
+    }
+
+    @Test
+    @DisplayName("Dispatcher should pick the most specific registered handler")
+    void testMostSpecificHandler() {
+        TypeDispatcher<Object, String> dispatcher = new TypeDispatcher<Object, String>(o -> "object")
+                .register(ParentClass.class, p -> "parent")
+                .register(ChildClass.class, c -> "child")
+                .register(Serializable.class, s -> "serializable");
+
+        assertEquals("parent", dispatcher.dispatch(new ParentClass()));
+        assertEquals("child", dispatcher.dispatch(new ChildClass()));
+        assertEquals("child", dispatcher.dispatch(new GrandChildClass())); // inherited from ChildClass
+        assertEquals("child", dispatcher.dispatch(new GreatGrandChild())); // superclass wins over interface
+        assertEquals("serializable", dispatcher.dispatch(42));
+        assertEquals("object", dispatcher.dispatch(new Object()));
+
+        dispatcher.register(GrandChildClass.class, g -> "grandchild");
+        assertEquals("grandchild", dispatcher.dispatch(new GreatGrandChild()));
+    }
+
+    @Test
+    @DisplayName("Switch fast path and dispatcher should call the same methods")
+    void testSwitchMatchesDispatcher() {
+        TypeDispatcher<ParentClass, Integer> dispatcher = InheritanceDispatch.callAllDispatcher();
+        for (ParentClass target : List.of(new ParentClass(), new ChildClass(), new GrandChildClass(), new GreatGrandChild())) {
+            List<String> viaSwitch = new ArrayList<>();
+            List<String> viaDispatcher = new ArrayList<>();
+            Output.runWith(viaSwitch::add, () -> InheritanceDispatch.callAll(target));
+            Output.runWith(viaDispatcher::add, () -> dispatcher.dispatch(target));
+            assertEquals(viaSwitch, viaDispatcher);
+        }
+        List<String> lines = new ArrayList<>();
+        Output.runWith(lines::add, () -> assertEquals(3, InheritanceDispatch.callAll(new GrandChildClass())));
+        assertEquals(List.of("Method from ParentClass", "Method from ChildClass", "Method from GrandChildClass"), lines);
+
+        Vehicle car = new Car("Toyota", 4);
+        assertEquals("Toyota car with 4 doors", InheritanceDispatch.describe(car));
+        assertEquals("Toyota car with 4 doors", InheritanceDispatch.describeDispatcher().dispatch(car));
+        assertEquals("Generic vehicle", InheritanceDispatch.describeDispatcher().dispatch(new Vehicle("Generic")));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.oop.encapsulation;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeRegistryTest {
+    private static final char[] CYCLE = {'A', 'B', 'C', 'D', 'F'};
+
+    @Test
+    @DisplayName("Registry should validate grades and ids")
+    void testSetGrade() {
+        GradeRegistry registry = GradeRegistry.of(List.of(new Student(101, "Alice"), new Student(102, "Bob")));
+        assertTrue(registry.setGrade(101, 'A'));
+        assertFalse(registry.setGrade(101, 'Z'));
+        assertEquals('A', registry.getGrade(101));
+        assertEquals('N', registry.getGrade(102));
+        assertThrows(IllegalArgumentException.class, () -> registry.getGrade(999));
+        assertThrows(IllegalArgumentException.class, () -> new GradeRegistry(1, 1));
+    }
+
+    @Test
+    @DisplayName("Invalid batch should not apply any grade")
+    void testBatchAllOrNothing() {
+        GradeRegistry registry = new GradeRegistry(1, 2, 3);
+        registry.applyGrades(new int[]{1, 2}, new char[]{'B', 'C'});
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.applyGrades(new int[]{1, 3}, new char[]{'A', 'Q'}));
+
+        GradeRegistry.Histogram histogram = registry.histogram();
+        assertEquals(1, histogram.count('B'));
+        assertEquals(1, histogram.count('C'));
+        assertEquals(1, histogram.count('N'));
+        assertEquals(3, histogram.total());
+    }
+
+    @Test
+    @DisplayName("Concurrent CAS updates should never lose an update")
+    void testNoLostUpdates() throws Exception {
+        int ids = 8;
+        int threads = 32;
+        int advancesPerThread = 5_000;
+        int[] studentIds = new int[ids];
+        for (int i = 0; i < ids; i++) {
+            studentIds[i] = 1000 + i;
+        }
+        GradeRegistry registry = new GradeRegistry(studentIds);
+        registry.applyGrades(studentIds, new char[]{'A', 'A', 'A', 'A', 'A', 'A', 'A', 'A'});
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < advancesPerThread; i++) {
+                        advance(registry, studentIds[(offset + i) % ids]);
+                        if (i % 500 == 0) {
+                            assertEquals(ids, registry.histogram().total());
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertNull(failure.get());
+
+        // Each id was advanced threads * advancesPerThread / ids times around the A..F cycle
+        int advancesPerId = threads * advancesPerThread / ids;
+        for (int id : studentIds) {
+            assertEquals(CYCLE[advancesPerId % CYCLE.length], registry.getGrade(id));
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshots should never observe a partially applied batch")
+    void testBatchAtomicity() throws Exception {
+        int[] ids = new int[256];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        char[] allA = new char[ids.length];
+        char[] allB = new char[ids.length];
+        Arrays.fill(allA, 'A');
+        Arrays.fill(allB, 'B');
+        GradeRegistry registry = new GradeRegistry(ids);
+        registry.applyGrades(ids, allA);
+
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                registry.applyGrades(ids, i % 2 == 0 ? allB : allA);
+            }
+            done.set(true);
+        });
+        writer.start();
+        while (!done.get()) {
+            GradeRegistry.Histogram histogram = registry.histogram();
+            assertTrue(histogram.count('A') == ids.length || histogram.count('B') == ids.length,
+                    histogram.toString());
+        }
+        writer.join();
+    }
+
+    private static void advance(GradeRegistry registry, int id) {
+        while (true) {
+            char current = registry.getGrade(id);
+            char next = CYCLE[(new String(CYCLE).indexOf(current) + 1) % CYCLE.length];
+            if (registry.compareAndSetGrade(id, current, next)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.oop.encapsulation;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeStatisticsTest {
+    private GradeStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new GradeStatistics();
+    }
+
+    @Test
+    @DisplayName("Listener should see grade transitions from setGrade")
+    void testCountsFollowSetGrade() {
+        Student alice = new Student(101, "Alice");
+        Student bob = new Student(102, "Bob");
+        statistics.track(alice);
+        statistics.track(bob);
+
+        alice.setGrade('A');
+        bob.setGrade('C');
+        alice.setGrade('B');
+        alice.setGrade('Z'); // invalid, no transition
+
+        GradeStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(0, snapshot.count('A'));
+        assertEquals(1, snapshot.count('B'));
+        assertEquals(1, snapshot.count('C'));
+        assertEquals(2, snapshot.gradedStudents());
+        assertEquals(2.5, snapshot.meanGpa(), 1e-12);
+        assertEquals(0.25, snapshot.gpaVariance(), 1e-12);
+
+        statistics.untrack(bob);
+        bob.setGrade('A');
+        assertEquals(1, statistics.snapshot().gradedStudents());
+    }
+
+    @Test
+    @DisplayName("Running mean and variance should match a full recomputation")
+    void testMatchesRecomputation() {
+        Random random = new Random(5);
+        char[] grades = {'A', 'B', 'C', 'D', 'F'};
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Student student = new Student(i, "S" + i);
+            statistics.track(student);
+            students.add(student);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            students.get(random.nextInt(students.size())).setGrade(grades[random.nextInt(grades.length)]);
+        }
+
+        double sum = 0;
+        int n = 0;
+        for (Student student : students) {
+            if (student.getGrade() != 'N') {
+                sum += GradeStatistics.gradePoints(student.getGrade());
+                n++;
+            }
+        }
+        double mean = sum / n;
+        double squares = 0;
+        for (Student student : students) {
+            if (student.getGrade() != 'N') {
+                double d = GradeStatistics.gradePoints(student.getGrade()) - mean;
+                squares += d * d;
+            }
+        }
+        GradeStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(n, snapshot.gradedStudents());
+        assertEquals(mean, snapshot.meanGpa(), 1e-9);
+        assertEquals(squares / n, snapshot.gpaVariance(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Top-K should return the best grades for a name prefix")
+    void testTopK() {
+        Student alice = new Student(1, "Alice");
+        Student amir = new Student(2, "Amir");
+        Student anna = new Student(3, "Anna");
+        Student bob = new Student(4, "Bob");
+        for (Student student : List.of(alice, amir, anna, bob)) {
+            statistics.track(student);
+        }
+        alice.setGrade('C');
+        amir.setGrade('A');
+        anna.setGrade('F');
+        bob.setGrade('A');
+
+        assertEquals(List.of(amir, alice), statistics.topK("A", 2));
+        assertEquals(List.of(bob), statistics.topK("B", 5));
+        assertTrue(statistics.topK("Z", 3).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> statistics.topK("Al", 3));
+    }
+
+    @Test
+    @DisplayName("Names shorter than the prefix length should be found by their whole name")
+    void testShortNames() {
+        GradeStatistics byTwo = new GradeStatistics(2);
+        Student al = new Student(1, "A");
+        Student alice = new Student(2, "Alice");
+        byTwo.track(al);
+        byTwo.track(alice);
+        al.setGrade('B');
+        alice.setGrade('A');
+        assertEquals(List.of(al), byTwo.topK("A", 5));
+        assertEquals(List.of(alice), byTwo.topK("Al", 5));
+    }
+
+    @Test
+    @DisplayName("Tracking while the grade changes should count the student once")
+    void testTrackDuringSetGrade() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            GradeStatistics fresh = new GradeStatistics();
+            Student student = new Student(round, "Alice");
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < 20; i++) {
+                    student.setGrade("ABCDF".charAt(i % 5));
+                }
+            });
+            writer.start();
+            fresh.track(student);
+            writer.join();
+            GradeStatistics.Snapshot snapshot = fresh.snapshot();
+            assertEquals(1, snapshot.gradedStudents());
+            assertEquals(1, snapshot.count(student.getGrade()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.oop.encapsulation;
+
+import com.example.oop.output.Output;
+import com.example.oop.output.OutputSink;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentBatchLoaderTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Loader should build every student and report invalid grades in input order")
+    void testLoadReportsRejections() {
+        int count = 10_000;
+        int[] ids = new int[count];
+        String[] names = new String[count];
+        char[] grades = new char[count];
+        char[] valid = {'A', 'B', 'C', 'D', 'F', 'N'};
+        List<Integer> expectedIndices = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids[i] = 1000 + i;
+            names[i] = "Student" + i;
+            if (i % 997 == 0) {
+                grades[i] = (char) ('0' + i % 10);
+                expectedIndices.add(i);
+            } else {
+                grades[i] = valid[i % valid.length];
+            }
+        }
+
+        List<String> printed = Collections.synchronizedList(new ArrayList<>());
+        OutputSink previous = Output.setSink(printed::add);
+        StudentBatchLoader.Batch batch;
+        try {
+            batch = new StudentBatchLoader(pool, 64).load(ids, names, grades);
+        } finally {
+            Output.setSink(previous);
+        }
+
+        assertTrue(printed.isEmpty());
+        Student[] students = batch.students();
+        for (int i = 0; i < count; i++) {
+            assertEquals(1000 + i, students[i].getStudentId());
+            assertEquals("Student" + i, students[i].getFirstName());
+            assertEquals(expectedIndices.contains(i) ? 'N' : grades[i], students[i].getGrade());
+        }
+        StudentBatchLoader.Rejections rejections = batch.rejections();
+        assertEquals(expectedIndices.size(), rejections.size());
+        for (int i = 0; i < rejections.size(); i++) {
+            assertEquals(expectedIndices.get(i), rejections.index(i));
+            assertEquals(grades[expectedIndices.get(i)], rejections.grade(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Loader should reject input arrays of different lengths")
+    void testMismatchedLengths() {
+        StudentBatchLoader loader = new StudentBatchLoader(pool, 64);
+        assertThrows(IllegalArgumentException.class,
+                () -> loader.load(new int[2], new String[2], new char[1]));
+        assertTrue(loader.load(new int[0], new String[0], new char[0]).rejections().isEmpty());
+    }
+}
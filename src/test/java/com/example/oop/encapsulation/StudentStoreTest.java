@@ -0,0 +1,54 @@
+package com.example.oop.encapsulation;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentStoreTest {
+    private StudentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new StudentStore(2);
+    }
+
+    @Test
+    @DisplayName("Store should keep columns and share duplicate names")
+    void testAddAndRead() {
+        int alice = store.add(101, "Alice");
+        int bob = store.add(102, "Bob");
+        int alice2 = store.add(103, "Alice");
+
+        assertEquals(3, store.size());
+        assertEquals(2, store.distinctNames());
+        assertEquals(102, store.getStudentId(bob));
+        assertEquals("Alice", store.getFirstName(alice));
+        assertEquals("Alice", store.getFirstName(alice2));
+        assertEquals('N', store.getGrade(alice));
+    }
+
+    @Test
+    @DisplayName("Flyweight view should behave like a Student")
+    void testView() {
+        store.add(101, "Alice");
+        store.add(102, "Zoë");
+
+        Student view = store.view(0);
+        view.setGrade('B');
+        assertEquals(101, view.getStudentId());
+        assertEquals('B', store.getGrade(0));
+
+        StudentStore.View moved = store.view(0).moveTo(1);
+        assertEquals("Zoë", moved.getFirstName());
+        assertEquals('N', moved.getGrade());
+    }
+
+    @Test
+    @DisplayName("Store should apply the same grade validation as Student")
+    void testInvalidGrade() {
+        int index = store.add(101, "Alice");
+        store.setGrade(index, 'A');
+        store.setGrade(index, 'Z');
+        assertEquals('A', store.getGrade(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getGrade(5));
+    }
+}
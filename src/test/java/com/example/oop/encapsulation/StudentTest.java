@@ -1,5 +1,6 @@
 package com.example.oop.encapsulation;
 
+import com.example.oop.collections.StringPool;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,4 +25,16 @@ class StudentTest {
         student.setGrade('Z');
         assertEquals('N', student.getGrade());
     }
+
+    @Test
+    @DisplayName("A student built from a pool handle should read its name from the pool")
+    void testPooledFirstName() {
+        StringPool names = new StringPool();
+        Student first = new Student(1, names, names.intern("Alice"));
+        Student second = new Student(2, names, names.intern(new StringBuilder("Alice")));
+        assertEquals("Alice", first.getFirstName());
+        assertEquals("Alice", second.getFirstName());
+        assertEquals(1, names.size());
+        assertEquals("Alice", student.getFirstName());
+    }
 }
@@ -0,0 +1,99 @@
+package com.example.oop.inheritance;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleIndexTest {
+    @Test
+    @DisplayName("Index should answer brand and door queries")
+    void testQueries() {
+        VehicleIndex index = new VehicleIndex();
+        index.add(new Car("Toyota", 4));
+        int corolla = index.add(new Car("Toyota", 2));
+        index.add(new Car("Honda", 4));
+        index.add(new Vehicle("Toyota"));
+
+        assertEquals(4, index.size());
+        assertEquals(2, index.brandCount());
+        assertEquals(3, index.findByBrand("Toyota").size());
+        assertEquals(1, index.countCars("Toyota", 4));
+        assertEquals(0, index.countCars("Tesla", 4));
+        assertEquals(2, index.findCars("Toyota", 2).get(0).getNumberOfDoors());
+        assertEquals(2, index.countCars("Toyota"));
+        assertEquals(0, index.countCars("Tesla"));
+        assertEquals(List.of("Honda"), index.findCars("Honda").stream().map(Car::getBrand).toList());
+
+        assertTrue(index.remove(corolla));
+        assertFalse(index.remove(corolla));
+        assertEquals(0, index.countCars("Toyota", 2));
+        assertEquals(2, index.findByBrand("Toyota").size());
+        assertEquals(1, index.countCars("Toyota"));
+    }
+
+    @Test
+    @DisplayName("Index should match a linear scan after random inserts and removes")
+    void testMatchesLinearScan() {
+        String[] brands = {"Toyota", "Honda", "Ford", "BMW"};
+        Random random = new Random(7);
+        VehicleIndex index = new VehicleIndex();
+        List<Integer> live = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            if (!live.isEmpty() && random.nextInt(4) == 0) {
+                assertTrue(index.remove(live.remove(random.nextInt(live.size()))));
+            } else {
+                live.add(index.add(new Car(brands[random.nextInt(brands.length)], 2 + random.nextInt(4))));
+            }
+        }
+
+        for (String brand : brands) {
+            for (int doors = 2; doors <= 5; doors++) {
+                int expected = 0;
+                for (int slot : live) {
+                    Car car = (Car) index.get(slot);
+                    if (car.getBrand().equals(brand) && car.getNumberOfDoors() == doors) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, index.countCars(brand, doors), brand + " " + doors);
+            }
+            long expected = live.stream().filter(slot -> index.get(slot).getBrand().equals(brand)).count();
+            assertEquals(expected, index.countCars(brand), brand);
+        }
+    }
+
+    @Test
+    @DisplayName("RoaringBitmap should behave like BitSet")
+    void testRoaringBitmapMatchesBitSet() {
+        Random random = new Random(11);
+        RoaringBitmap left = new RoaringBitmap();
+        RoaringBitmap right = new RoaringBitmap();
+        BitSet leftSet = new BitSet();
+        BitSet rightSet = new BitSet();
+        for (int i = 0; i < 200_000; i++) {
+            // Dense low range (bitmap containers) plus sparse high values (array containers)
+            int value = random.nextBoolean() ? random.nextInt(70_000) : random.nextInt(5_000_000);
+            if (random.nextInt(5) == 0) {
+                left.remove(value);
+                leftSet.clear(value);
+            } else if (random.nextBoolean()) {
+                left.add(value);
+                leftSet.set(value);
+            } else {
+                right.add(value);
+                rightSet.set(value);
+            }
+        }
+        assertEquals(leftSet.cardinality(), left.cardinality());
+
+        BitSet expected = (BitSet) leftSet.clone();
+        expected.and(rightSet);
+        BitSet actual = new BitSet();
+        left.and(right).forEach(actual::set);
+        assertEquals(expected, actual);
+        assertTrue(left.contains(leftSet.nextSetBit(0)));
+    }
+}
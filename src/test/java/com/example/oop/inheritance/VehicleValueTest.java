@@ -0,0 +1,40 @@
+package com.example.oop.inheritance;
+
+import com.example.oop.abstraction.Circle;
+import com.example.oop.abstraction.CircleRecord;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleValueTest {
+    @Test
+    @DisplayName("Car.of should return one shared instance per brand and door count")
+    void testCarInterning() {
+        Car first = Car.of(new String("Toyota"), 4);
+        Car second = Car.of(new String("Toyota"), 4);
+        assertSame(first, second);
+        assertSame(first.getBrand(), second.getBrand());
+        assertNotSame(first, Car.of("Toyota", 2));
+        assertEquals(first, new Car("Toyota", 4));
+        assertNotEquals(new Vehicle("Toyota"), new Car("Toyota", 4));
+
+        assertSame(CarRecord.of(new String("Honda"), 2), CarRecord.of(new String("Honda"), 2));
+    }
+
+    @Test
+    @DisplayName("Records should round-trip to the class hierarchy")
+    void testRecordConversions() {
+        VehicleValue car = VehicleValue.from(new Car("Toyota", 4));
+        assertEquals(new CarRecord("Toyota", 4), car);
+        assertEquals(new Car("Toyota", 4), car.toVehicle());
+        assertEquals("Tuut, tuut!", car.honk());
+
+        VehicleValue vehicle = VehicleValue.from(new Vehicle("Generic"));
+        assertInstanceOf(VehicleRecord.class, vehicle);
+        assertEquals(new Vehicle("Generic"), vehicle.toVehicle());
+
+        CircleRecord circle = CircleRecord.from(new Circle(2.0));
+        assertEquals(new CircleRecord(2.0), circle);
+        assertEquals(new Circle(2.0).calculateArea(), circle.calculateArea());
+        assertEquals(new Circle(2.0), circle.toCircle());
+    }
+}
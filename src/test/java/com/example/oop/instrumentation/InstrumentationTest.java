@@ -0,0 +1,91 @@
+package com.example.oop.instrumentation;
+
+import com.example.oop.OverloadExample;
+import com.example.oop.abstraction.Circle;
+import com.example.oop.encapsulation.Student;
+import com.example.oop.interfaces.Square;
+import com.example.oop.output.Output;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The build runs this class in its own instrumentationTest task with -Doop.instrumentation=true
+class InstrumentationTest {
+    @Test
+    @DisplayName("Probes should emit JFR events that can be read back from a .jfr file")
+    void testEventsInRecording(@TempDir Path dir) throws Exception {
+        assertTrue(Instrumentation.ENABLED, "run with -Doop.instrumentation=true");
+        Path file = dir.resolve("probes.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("ShapeArea", "Draw", "SetGrade", "OverloadAdd")) {
+                recording.enable("com.example.oop." + name);
+            }
+            recording.start();
+            new Circle(2.0).calculateArea();
+            new Square().draw();
+            Student student = new Student(7, "Alice");
+            student.setGrade('A');
+            Output.runWith(line -> { }, () -> student.setGrade('Z'));
+            new OverloadExample().add(5, 10, 15);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, List<RecordedEvent>> byName = RecordingFile.readAllEvents(file).stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+
+        RecordedEvent area = byName.get("com.example.oop.ShapeArea").get(0);
+        assertEquals(Circle.class.getName(), area.getString("shape"));
+        assertEquals(Math.PI * 4, area.getDouble("area"), 1e-12);
+
+        assertEquals(Square.class.getName(), byName.get("com.example.oop.Draw").get(0).getString("drawable"));
+
+        List<RecordedEvent> grades = byName.get("com.example.oop.SetGrade");
+        assertEquals(2, grades.size());
+        assertTrue(grades.get(0).getBoolean("accepted"));
+        assertEquals('A', grades.get(0).getChar("newGrade"));
+        assertFalse(grades.get(1).getBoolean("accepted"));
+        assertEquals('Z', grades.get(1).getChar("newGrade"));
+        assertEquals(7, grades.get(1).getInt("studentId"));
+
+        RecordedEvent add = byName.get("com.example.oop.OverloadAdd").get(0);
+        assertEquals(3, add.getInt("operands"));
+        assertEquals(30, add.getInt("result"));
+    }
+
+    @Test
+    @DisplayName("Probe statistics should be readable through the platform MBean server")
+    void testMXBeanCounts() throws Exception {
+        assertTrue(Instrumentation.ENABLED, "run with -Doop.instrumentation=true");
+        var server = ManagementFactory.getPlatformMBeanServer();
+        Function<String, Long> count = probe -> {
+            try {
+                return (Long) server.getAttribute(Instrumentation.objectName(probe), "Count");
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        };
+        long before = count.apply(Instrumentation.OVERLOAD_ADD);
+        OverloadExample example = new OverloadExample();
+        for (int i = 0; i < 100; i++) {
+            example.add(i, i);
+        }
+        assertEquals(before + 100, count.apply(Instrumentation.OVERLOAD_ADD));
+        assertTrue((Long) server.getAttribute(Instrumentation.objectName(Instrumentation.OVERLOAD_ADD), "MaxNanos") >= 0);
+
+        long draws = count.apply(Instrumentation.DRAW);
+        new Square().drawTo(ByteBuffer.allocate(64));
+        new com.example.oop.interfaces.Circle().drawTo(ByteBuffer.allocate(64));
+        assertEquals(draws + 2, count.apply(Instrumentation.DRAW));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.oop.interfaces;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DrawPipelineTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Pipeline should write one line per drawing through a FileChannel")
+    void testDrawToFile() throws Exception {
+        Path file = tempDir.resolve("frame.txt");
+        try (DrawPipeline pipeline = DrawPipeline.toFile(file)) {
+            pipeline.drawAll(new Drawable[]{new Circle(), new Square(), () -> "Drawing a Line"});
+        }
+        assertEquals(List.of("Drawing a Circle", "Drawing a Square", "Drawing a Line"), Files.readAllLines(file));
+    }
+
+    @Test
+    @DisplayName("Pipeline should flush when the buffer fills up")
+    void testSmallBuffer() throws Exception {
+        Path file = tempDir.resolve("small.txt");
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try (DrawPipeline pipeline = new DrawPipeline(channel, 20)) {
+            for (int i = 0; i < 10; i++) {
+                pipeline.draw(new Circle());
+            }
+            assertEquals(10, pipeline.getDrawCount());
+        }
+        assertEquals(10, Files.readAllLines(file).size());
+    }
+
+    @Test
+    @DisplayName("Drawing circles and squares should not allocate")
+    void testZeroAllocationPerDraw() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        DrawPipeline pipeline = new DrawPipeline(new DiscardingChannel(), 4096);
+        Drawable[] shapes = {new Circle(), new Square()};
+        int draws = 100_000;
+        for (int i = 0; i < draws; i++) {
+            pipeline.drawAll(shapes); // warm up
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < draws; i++) {
+            pipeline.drawAll(shapes);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < draws / 10, "allocated " + allocated + " bytes for " + (2 * draws) + " draws");
+    }
+
+    private static class DiscardingChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
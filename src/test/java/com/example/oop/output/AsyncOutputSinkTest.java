@@ -0,0 +1,96 @@
+package com.example.oop.output;
+
+import com.example.oop.encapsulation.Student;
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncOutputSinkTest {
+    @Test
+    @DisplayName("Lines from one thread should be written in order after flush")
+    void testOrderedFlush() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncOutputSink sink = new AsyncOutputSink(new PrintStream(bytes), 4);
+        for (int i = 0; i < 100; i++) {
+            sink.println("line " + i);
+        }
+        sink.flush();
+
+        String[] lines = bytes.toString().split(System.lineSeparator());
+        assertEquals(100, lines.length);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("line " + i, lines[i]);
+        }
+        sink.close();
+    }
+
+    @Test
+    @DisplayName("Close should drain lines from many producers")
+    void testManyProducers() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncOutputSink sink = new AsyncOutputSink(new PrintStream(bytes), 64);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int id = t;
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    sink.println(id + ":" + i);
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        sink.close();
+        sink.println("after close");
+
+        Set<String> lines = new HashSet<>(List.of(bytes.toString().split(System.lineSeparator())));
+        assertEquals(8 * 1_000 + 1, lines.size());
+        assertTrue(lines.contains("7:999"));
+        assertTrue(lines.contains("after close"));
+    }
+
+    @Test
+    @DisplayName("Lines printed while the sink closes should not be lost")
+    void testPrintDuringClose() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            AsyncOutputSink sink = new AsyncOutputSink(new PrintStream(bytes), 8);
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int id = t;
+                producers.add(new Thread(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        sink.println(id + ":" + i);
+                    }
+                }));
+            }
+            producers.forEach(Thread::start);
+            sink.close();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            Set<String> lines = new HashSet<>(List.of(bytes.toString().split(System.lineSeparator())));
+            assertEquals(4 * 200, lines.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Output should route through the installed sink")
+    void testSetSink() {
+        List<String> captured = new ArrayList<>();
+        OutputSink previous = Output.setSink(captured::add);
+        try {
+            new Student(1, "Alice").setGrade('Z');
+        } finally {
+            Output.setSink(previous);
+        }
+        assertEquals(List.of("Invalid grade."), captured);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.oop.query;
+
+import com.example.oop.abstraction.Circle;
+import com.example.oop.abstraction.Shape;
+import com.example.oop.interfaces.Drawable;
+import com.example.oop.interfaces.Square;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryTest {
+    static class Rectangle extends Shape {
+        final double width;
+        final double height;
+
+        Rectangle(double width, double height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public double calculateArea() {
+            return width * height;
+        }
+    }
+
+    private List<Shape> shapes;
+
+    @BeforeEach
+    void setUp() {
+        shapes = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            shapes.add(i % 3 == 0 ? new Rectangle(i, 2) : new Circle(i % 7));
+        }
+    }
+
+    @Test
+    @DisplayName("Query results should match the equivalent Stream pipeline")
+    void testMatchesStreamPipeline() {
+        double expected = shapes.stream().filter(Circle.class::isInstance)
+                .filter(s -> ((Circle) s).getRadius() > 2).mapToDouble(Shape::calculateArea).sum();
+        assertEquals(expected, Shapes.from(shapes).ofType(Circle.class).where(c -> c.getRadius() > 2).area().sum(), 1e-6);
+        assertEquals(expected, Shapes.from(shapes).ofType(Circle.class).where(c -> c.getRadius() > 2).parallel().area().sum(), 1e-6);
+
+        long rectangles = shapes.stream().filter(Rectangle.class::isInstance).count();
+        assertEquals(rectangles, Shapes.from(shapes).ofType(Rectangle.class).count());
+        assertEquals(rectangles, Shapes.from(new LinkedList<>(shapes)).ofType(Rectangle.class).parallel().count());
+        assertEquals(shapes.size(), Shapes.from(shapes).area().count());
+        assertEquals(Shapes.from(shapes).ofType(Rectangle.class).stream().toList(),
+                shapes.stream().filter(Rectangle.class::isInstance).toList());
+    }
+
+    @Test
+    @DisplayName("Queries should be lazy and stop at the first match when short-circuiting")
+    void testLazyShortCircuit() {
+        AtomicInteger tested = new AtomicInteger();
+        ShapeQuery<Circle> query = Shapes.from(shapes).ofType(Circle.class).where(c -> {
+            tested.incrementAndGet();
+            return true;
+        });
+        assertEquals(0, tested.get());
+
+        assertTrue(query.area().anyMatch(area -> area > 0));
+        assertEquals(1, tested.get());
+    }
+
+    @Test
+    @DisplayName("Generic queries should work over Drawable lists")
+    void testDrawableQuery() {
+        List<Drawable> drawables = List.of(new com.example.oop.interfaces.Circle(), new Square(), new Square());
+        assertEquals(List.of("Drawing a Square", "Drawing a Square"),
+                Query.from(drawables).ofType(Square.class).stream().map(Drawable::draw).toList());
+    }
+}
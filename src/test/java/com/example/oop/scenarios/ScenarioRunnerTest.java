@@ -0,0 +1,78 @@
+package com.example.oop.scenarios;
+
+import com.example.oop.metrics.LatencyHistogram;
+import com.example.oop.output.Output;
+import com.example.oop.output.OutputSink;
+import org.junit.jupiter.api.*;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioRunnerTest {
+    @Test
+    @DisplayName("Runner should capture identical output for every iteration")
+    void testRunnerOutputIsDeterministic() throws Exception {
+        ScenarioRunner runner = new ScenarioRunner(Scenarios.all(), 50, 8);
+        List<ScenarioRunner.Result> results = runner.run();
+
+        assertEquals(6, results.size());
+        assertEquals("Classes and Objects", results.get(0).scenario().name());
+        assertEquals("\n--- Classes and Objects ---\nObject name: Example Object\n", results.get(0).outputs()[0]);
+        for (ScenarioRunner.Result result : results) {
+            assertEquals(0, result.mismatchedOutputs(), result.scenario().name());
+            assertEquals(50, result.latencies().count());
+        }
+    }
+
+    @Test
+    @DisplayName("A failing run should be reported instead of leaving a silent gap")
+    void testFailedRunIsRecorded() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        Scenario flaky = new Scenario("Flaky", () -> {
+            Output.println("ran");
+            if (runs.incrementAndGet() == 3) {
+                throw new IllegalStateException("third run");
+            }
+        });
+        ScenarioRunner.Result result = new ScenarioRunner(List.of(flaky), 10, 1).run().get(0);
+
+        assertEquals(1, result.failedRuns());
+        assertEquals(1, result.mismatchedOutputs());
+        assertInstanceOf(IllegalStateException.class, result.firstFailure());
+        assertNull(result.outputs()[2]);
+        assertEquals("ran\n", result.outputs()[0]);
+    }
+
+    @Test
+    @DisplayName("setSink inside runWith should hand back the global sink")
+    void testSetSinkInsideRunWith() {
+        OutputSink global = line -> { };
+        OutputSink previous = Output.setSink(global);
+        try {
+            Output.runWith(line -> { }, () -> {
+                OutputSink replaced = Output.setSink(global);
+                assertSame(global, replaced);
+            });
+        } finally {
+            Output.setSink(previous);
+        }
+    }
+
+    @Test
+    @DisplayName("Histogram percentiles should be within 1% of the recorded values")
+    void testHistogramPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.record(v * 1_000);
+        }
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000_000, histogram.max());
+        assertEquals(50_000_000, histogram.percentile(50), 50_000_000 * 0.01);
+        assertEquals(99_000_000, histogram.percentile(99), 99_000_000 * 0.01);
+        assertEquals(50_000_500, histogram.mean(), 1);
+
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.percentile(100));
+    }
+}
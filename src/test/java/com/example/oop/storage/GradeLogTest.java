@@ -0,0 +1,262 @@
+package com.example.oop.storage;
+
+import com.example.oop.encapsulation.GradeStatistics;
+import com.example.oop.encapsulation.Student;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeLogTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Tracked grade changes should survive reopening the log")
+    void testReopen() throws IOException {
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            Student alice = new Student(1, "Alice");
+            Student bob = new Student(2, "Bob");
+            log.track(alice);
+            log.track(bob);
+            alice.setGrade('B');
+            alice.setGrade('A');
+            bob.setGrade('C');
+            bob.setGrade('X'); // rejected, so nothing is logged
+            assertEquals(3, log.durableSequence());
+            assertEquals('A', log.grade(1));
+        }
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            assertEquals(3, log.durableSequence());
+            assertEquals('A', log.grade(1));
+            assertEquals('C', log.grade(2));
+            assertEquals('N', log.grade(3));
+            assertEquals(4, log.append(3, 'N', 'F'));
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshots should replace old segments without losing changes")
+    void testSnapshots() throws IOException {
+        try (GradeLog log = GradeLog.open(tempDir, 100)) {
+            for (int i = 0; i < 1_050; i++) {
+                log.append(i % 300, 'N', "ABCDF".charAt(i % 5));
+            }
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            List<String> names = files.map(p -> p.getFileName().toString()).sorted().toList();
+            assertEquals(List.of("log-1001.wal", "snapshot-1000.dat"), names);
+        }
+        try (GradeLog log = GradeLog.open(tempDir, 100)) {
+            assertEquals(1_050, log.durableSequence());
+            assertEquals(300, log.studentCount());
+            assertEquals("ABCDF".charAt(1_049 % 5), log.grade(1_049 % 300));
+            assertEquals("ABCDF".charAt(899 % 5), log.grade(899 % 300));
+        }
+    }
+
+    @Test
+    @DisplayName("A log cut off mid-record should recover up to the last whole record")
+    void testTornTail() throws IOException {
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            for (int i = 1; i <= 10; i++) {
+                log.append(i, 'N', 'B');
+            }
+        }
+        Path segment = tempDir.resolve("log-1.wal");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(9L * GradeLog.RECORD_SIZE + 7); // the crash hit while writing record 10
+        }
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            assertEquals(9, log.durableSequence());
+            assertEquals('B', log.grade(9));
+            assertEquals('N', log.grade(10));
+            assertEquals(9L * GradeLog.RECORD_SIZE, Files.size(segment));
+            assertEquals(10, log.append(10, 'N', 'A'));
+        }
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            assertEquals(10, log.durableSequence());
+            assertEquals('A', log.grade(10));
+        }
+    }
+
+    @Test
+    @DisplayName("A corrupted last record should end replay at the record before it")
+    void testCorruptTail() throws IOException {
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            for (int i = 1; i <= 5; i++) {
+                log.append(i, 'N', 'C');
+            }
+        }
+        Path segment = tempDir.resolve("log-1.wal");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[4 * GradeLog.RECORD_SIZE + 13] = 'A'; // new grade of record 5, CRC left stale
+        Files.write(segment, bytes);
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            assertEquals(4, log.durableSequence());
+            assertEquals('C', log.grade(4));
+            assertEquals('N', log.grade(5));
+        }
+        assertEquals(4 * GradeLog.RECORD_SIZE, Files.size(segment));
+    }
+
+    @Test
+    @DisplayName("A corrupted record with intact records after it should fail the open")
+    void testCorruptMiddleRecord() throws IOException {
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            for (int i = 1; i <= 5; i++) {
+                log.append(i, 'N', 'C');
+            }
+        }
+        Path segment = tempDir.resolve("log-1.wal");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[3 * GradeLog.RECORD_SIZE + 13] = 'A'; // new grade of record 4, CRC left stale
+        Files.write(segment, bytes);
+        assertThrows(IOException.class, () -> GradeLog.open(tempDir, 1_000));
+        assertArrayEquals(bytes, Files.readAllBytes(segment));
+    }
+
+    @Test
+    @DisplayName("A damaged snapshot should fail the open and leave the log untouched")
+    void testCorruptSnapshot() throws IOException {
+        try (GradeLog log = GradeLog.open(tempDir, 100)) {
+            for (int i = 1; i <= 150; i++) {
+                log.append(i, 'N', 'B');
+            }
+        }
+        Path snapshot = tempDir.resolve("snapshot-100.dat");
+        Path segment = tempDir.resolve("log-101.wal");
+        byte[] segmentBytes = Files.readAllBytes(segment);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[0] ^= 1; // breaks the header
+        Files.write(snapshot, bytes);
+        assertThrows(IOException.class, () -> GradeLog.open(tempDir, 100));
+        assertArrayEquals(segmentBytes, Files.readAllBytes(segment));
+    }
+
+    @Test
+    @DisplayName("A missing stretch of sequence numbers should fail the open")
+    void testSequenceGap() throws IOException {
+        try (GradeLog log = GradeLog.open(tempDir, 100)) {
+            for (int i = 1; i <= 150; i++) {
+                log.append(i, 'N', 'B');
+            }
+        }
+        Files.delete(tempDir.resolve("snapshot-100.dat"));
+        assertThrows(IOException.class, () -> GradeLog.open(tempDir, 100));
+        assertTrue(Files.size(tempDir.resolve("log-101.wal")) > 0);
+    }
+
+    @Test
+    @DisplayName("Concurrent appends should all be durable with unique sequence numbers")
+    void testConcurrentAppends() throws Exception {
+        int threads = 16;
+        int perThread = 500;
+        try (GradeLog log = GradeLog.open(tempDir, 2_000)) {
+            List<Future<long[]>> futures = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    futures.add(executor.submit(() -> {
+                        long[] seqs = new long[perThread];
+                        for (int i = 0; i < perThread; i++) {
+                            seqs[i] = log.append(thread, 'N', "ABCDF".charAt(i % 5));
+                        }
+                        return seqs;
+                    }));
+                }
+            }
+            boolean[] seen = new boolean[threads * perThread + 1];
+            for (Future<long[]> future : futures) {
+                for (long seq : future.get()) {
+                    assertFalse(seen[(int) seq], "duplicate sequence " + seq);
+                    seen[(int) seq] = true;
+                }
+            }
+            assertEquals(threads * perThread, log.durableSequence());
+            assertEquals('F', log.grade(0));
+        }
+        try (GradeLog log = GradeLog.open(tempDir, 2_000)) {
+            assertEquals(threads * perThread, log.durableSequence());
+            assertEquals(threads, log.studentCount());
+        }
+    }
+
+    @Test
+    @DisplayName("The log should run alongside other grade listeners")
+    void testSeveralListeners() throws IOException {
+        try (GradeLog log = GradeLog.open(tempDir, 1_000)) {
+            GradeStatistics statistics = new GradeStatistics();
+            Student student = new Student(7, "Alice");
+            statistics.track(student);
+            log.track(student);
+            student.setGrade('A');
+            assertEquals(1, statistics.snapshot().count('A'));
+            assertEquals('A', log.grade(7));
+            statistics.untrack(student);
+            student.setGrade('B');
+            assertEquals(0, statistics.snapshot().count('B'));
+            assertEquals('B', log.grade(7));
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent changes to one student should be logged in the order they were applied")
+    void testConcurrentSameStudent() throws Exception {
+        Student student = new Student(9, "Alice");
+        try (GradeLog log = GradeLog.open(tempDir, 10_000)) {
+            log.track(student);
+            List<Future<?>> futures = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                for (int t = 0; t < 8; t++) {
+                    int thread = t;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 200; i++) {
+                            student.setGrade("ABCDF".charAt((thread + i) % 5));
+                        }
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        try (GradeLog log = GradeLog.open(tempDir, 10_000)) {
+            assertEquals(student.getGrade(), log.grade(9));
+        }
+        // Every record's old grade is the previous record's new grade
+        byte[] bytes = Files.readAllBytes(tempDir.resolve("log-1.wal"));
+        char previous = 'N';
+        for (int offset = 0; offset < bytes.length; offset += GradeLog.RECORD_SIZE) {
+            assertEquals(previous, (char) bytes[offset + 12]);
+            previous = (char) bytes[offset + 13];
+        }
+    }
+
+    @Test
+    @DisplayName("A failed append should leave the grade and the other listeners unchanged")
+    void testFailedAppend() throws IOException {
+        GradeStatistics statistics = new GradeStatistics();
+        Student student = new Student(7, "Alice");
+        GradeLog log = GradeLog.open(tempDir, 1_000);
+        statistics.track(student);
+        log.track(student);
+        student.setGrade('A');
+        log.close();
+        assertThrows(UncheckedIOException.class, () -> student.setGrade('B'));
+        assertEquals('A', student.getGrade());
+        assertEquals(1, statistics.snapshot().count('A'));
+        assertEquals(0, statistics.snapshot().count('B'));
+    }
+}
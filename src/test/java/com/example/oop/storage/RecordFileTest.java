@@ -0,0 +1,106 @@
+package com.example.oop.storage;
+
+import com.example.oop.encapsulation.Student;
+import com.example.oop.inheritance.Car;
+import com.example.oop.inheritance.Vehicle;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordFileTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Student records should round-trip through a mapped file")
+    void testStudentRoundTrip() throws IOException {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Student student = new Student(i, i % 2 == 0 ? "Alice" : "Zoë");
+            if (i % 3 == 0) {
+                student.setGrade('B');
+            }
+            students.add(student);
+        }
+        Path path = tempDir.resolve("students.bin");
+        StudentFile.write(path, students);
+        assertEquals(RecordFiles.HEADER_SIZE + 1_000L * StudentFile.RECORD_SIZE, Files.size(path));
+
+        try (StudentFile file = StudentFile.open(path)) {
+            assertEquals(1_000, file.size());
+            assertEquals(999, file.studentId(999));
+            assertEquals("Zoë", file.firstName(1));
+            assertEquals('B', file.grade(3));
+            assertEquals('N', file.grade(4));
+            Student copy = file.toStudent(3);
+            assertEquals("Zoë", copy.getFirstName());
+            assertEquals('B', copy.getGrade());
+            assertThrows(IndexOutOfBoundsException.class, () -> file.studentId(1_000));
+        }
+    }
+
+    @Test
+    @DisplayName("Vehicle records should keep cars and plain vehicles apart")
+    void testVehicleRoundTrip() throws IOException {
+        Path path = tempDir.resolve("vehicles.bin");
+        VehicleFile.write(path, List.of(new Car("Toyota", 4), new Vehicle("Vespa")));
+
+        try (VehicleFile file = VehicleFile.open(path)) {
+            assertEquals(2, file.size());
+            assertEquals("Toyota", file.brand(0));
+            assertEquals(4, file.numberOfDoors(0));
+            assertTrue(file.isCar(0));
+            assertFalse(file.isCar(1));
+            assertFalse(file.toVehicle(1) instanceof Car);
+        }
+    }
+
+    @Test
+    @DisplayName("A Car with a negative door count should still read back as a Car")
+    void testCarWithNegativeDoors() throws IOException {
+        Path path = tempDir.resolve("odd-cars.bin");
+        VehicleFile.write(path, List.of(new Car("Mystery", -1), new Vehicle("Vespa")));
+
+        try (VehicleFile file = VehicleFile.open(path)) {
+            assertTrue(file.isCar(0));
+            Car car = assertInstanceOf(Car.class, file.toVehicle(0));
+            assertEquals(-1, car.getNumberOfDoors());
+            assertFalse(file.isCar(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Opening a corrupted or mismatched file should fail")
+    void testCorruptionDetected() throws IOException {
+        Path path = tempDir.resolve("corrupt.bin");
+        StudentFile.write(path, List.of(new Student(1, "Alice"), new Student(2, "Bob")));
+        try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.seek(RecordFiles.HEADER_SIZE + 6);
+            raf.write('X');
+        }
+        IOException e = assertThrows(IOException.class, () -> StudentFile.open(path));
+        assertTrue(e.getMessage().contains("checksum"));
+
+        Path vehicles = tempDir.resolve("vehicles.bin");
+        VehicleFile.write(vehicles, List.of(new Car("Toyota", 4)));
+        assertThrows(IOException.class, () -> StudentFile.open(vehicles));
+
+        Path truncated = tempDir.resolve("truncated.bin");
+        Files.write(truncated, new byte[10]);
+        assertThrows(IOException.class, () -> StudentFile.open(truncated));
+    }
+
+    @Test
+    @DisplayName("Names that do not fit the fixed-width field should be rejected")
+    void testNameTooLong() {
+        Student student = new Student(1, "A".repeat(40));
+        assertThrows(IllegalArgumentException.class,
+                () -> StudentFile.write(tempDir.resolve("long.bin"), List.of(student)));
+    }
+}